@@ -0,0 +1,210 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+// a Batch that only counts sprites and sums their coordinates, so draws can't be optimised away
+public class CountingBatch implements Batch {
+    // 4 vertices of x, y, colour, u, v
+    private static final int SPRITE_SIZE = 20;
+
+    private final Color color = new Color(Color.WHITE);
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 transform = new Matrix4();
+    private boolean drawing;
+    public int sprites;
+    public float checksum;
+
+    private void count(float x, float y) {
+        sprites++;
+        checksum += x + y;
+    }
+
+    @Override
+    public void begin() {
+        drawing = true;
+    }
+
+    @Override
+    public void end() {
+        drawing = false;
+    }
+
+    @Override
+    public void setColor(Color tint) {
+        color.set(tint);
+    }
+
+    @Override
+    public void setColor(float r, float g, float b, float a) {
+        color.set(r, g, b, a);
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(color, packedColor);
+    }
+
+    @Override
+    public float getPackedColor() {
+        return color.toFloatBits();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY,
+                     float width, float height, float scaleX, float scaleY, float rotation,
+                     int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height,
+                     int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y,
+                     int srcX, int srcY, int srcWidth, int srcHeight) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height,
+                     float u, float v, float u2, float v2) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        for (int i = offset; i < offset + count; i += SPRITE_SIZE) {
+            count(spriteVertices[i + X1], spriteVertices[i + Y1]);
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY,
+                     float width, float height, float scaleX, float scaleY, float rotation) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY,
+                     float width, float height, float scaleX, float scaleY, float rotation,
+                     boolean clockwise) {
+        count(x, y);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        count(transform.m02, transform.m12);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void disableBlending() {}
+
+    @Override
+    public void enableBlending() {}
+
+    @Override
+    public void setBlendFunction(int srcFunc, int dstFunc) {}
+
+    @Override
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor,
+                                         int srcFuncAlpha, int dstFuncAlpha) {}
+
+    @Override
+    public int getBlendSrcFunc() {
+        return GL20.GL_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendDstFunc() {
+        return GL20.GL_ONE_MINUS_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendSrcFuncAlpha() {
+        return GL20.GL_SRC_ALPHA;
+    }
+
+    @Override
+    public int getBlendDstFuncAlpha() {
+        return GL20.GL_ONE_MINUS_SRC_ALPHA;
+    }
+
+    @Override
+    public Matrix4 getProjectionMatrix() {
+        return projection;
+    }
+
+    @Override
+    public Matrix4 getTransformMatrix() {
+        return transform;
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        this.projection.set(projection);
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        this.transform.set(transform);
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {}
+
+    @Override
+    public ShaderProgram getShader() {
+        return null;
+    }
+
+    @Override
+    public boolean isBlendingEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void dispose() {}
+}
@@ -0,0 +1,149 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.survivor.Player;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.survivor.Simulation;
+import com.survivor.SlimeAiSystem;
+import com.survivor.SlimeCombatSystem;
+import com.survivor.SlimeMotionSystem;
+import com.survivor.SlimeRenderer;
+import com.survivor.SlimeWorld;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+import utils.EventQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// ns per tick/draw at a fixed slime population, and per slime system run on its own;
+// run with -prof gc for bytes per tick. the animation system has no benchmark of its own:
+// it only does work for timers coming due, which the other systems set as the ticks go by,
+// so its cost is measured as part of tick and round
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameLoopBenchmark {
+    private static final long SEED = 1;
+
+    @Param({"10", "1000", "100000"})
+    public int population;
+
+    private Player player;
+    private SlimeWorld slimes;
+    private EventQueue events;
+    private CountingBatch batch;
+    private SpriteBatch spriteBatch;
+    private SlimeRenderer renderer;
+    private float viewLeft;
+    private SlimeMotionSystem motion;
+    private SlimeCombatSystem combat;
+    private SlimeAiSystem ai;
+    private int ticks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Headless.loadAssets();
+        // the population is spawned here and the spawner never runs, so the waves don't matter
+        Simulation simulation = new Simulation(SEED, WaveSchedule.load(Gdx.files.internal(WaveSchedule.FILE)),
+                population, SurvivorGame.SCENE_WIDTH);
+        player = simulation.getPlayer();
+        slimes = simulation.getSlimes();
+        // the game never forks, but the largest population is past the threshold
+        slimes.setParallel(true);
+        events = simulation.getEvents();
+        while (slimes.getLiveCount() < population) {
+            slimes.spawn();
+        }
+        // one full tick, so every system has a player snapshot and levels of detail to go on
+        slimes.tick(SurvivorGame.TICK, player);
+        events.clear();
+        motion = slimes.getMotionSystem();
+        combat = slimes.getCombatSystem();
+        ai = slimes.getAiSystem();
+        ticks = 0;
+        batch = new CountingBatch();
+        spriteBatch = new SpriteBatch();
+        // sized the way SurvivorGame sizes it, so the largest population draws in chunks
+        renderer = new SlimeRenderer(Simulation.MAX_SLIMES);
+        if (!renderer.isInstanced()) throw new IllegalStateException("SlimeRenderer fell back to the SpriteBatch");
+        // where updateCamera would put the view; the player stands still, so it holds
+        viewLeft = MathUtils.clamp(player.getCentreX() - SurvivorGame.WIDTH / 2f,
+                0, SurvivorGame.SCENE_WIDTH - SurvivorGame.WIDTH);
+    }
+
+    @Benchmark
+    public boolean tick() {
+        // Simulation.tick without the spawner, and the player never takes the hit, so the population holds
+        slimes.tick(SurvivorGame.TICK, player);
+        boolean hit = slimes.collidesWithAny(player.getBodyCollider());
+        player.tick(SurvivorGame.TICK, 0);
+        events.clear();
+        return hit;
+    }
+
+    // the scripted round LodComparison plays, with the dead replaced every tick: slimes spawn,
+    // attack, cool down and die all the time, so the timing wheel always has timers coming due
+    @Benchmark
+    public boolean round() {
+        while (slimes.getLiveCount() < population) {
+            // the scene is never wider than the loaded segments, so nothing goes dormant
+            slimes.spawn();
+        }
+        slimes.tick(SurvivorGame.TICK, player);
+        boolean hit = slimes.collidesWithAny(player.getBodyCollider());
+        player.tick(SurvivorGame.TICK, Simulation.scriptedInput(ticks++));
+        events.clear();
+        return hit;
+    }
+
+    @Benchmark
+    public void motion() {
+        motion.update(SurvivorGame.TICK);
+    }
+
+    @Benchmark
+    public void combat() {
+        combat.update(SurvivorGame.TICK);
+    }
+
+    @Benchmark
+    public void ai() {
+        ai.update(SurvivorGame.TICK);
+    }
+
+    @Benchmark
+    public float draw() {
+        batch.begin();
+        slimes.draw(batch, 0.5f, viewLeft, viewLeft + SurvivorGame.WIDTH);
+        player.draw(batch, 0.5f);
+        batch.end();
+        return batch.checksum;
+    }
+
+    // the game's draw: instance data filled and uploaded, and one instanced call per
+    // Simulation.MAX_SLIMES slots. the GL ignores the calls, so this is the CPU side only;
+    // what -prof gc reports here is the proxy GL boxing each call's arguments
+    @Benchmark
+    public int instancedDraw() {
+        spriteBatch.begin();
+        renderer.draw(spriteBatch, slimes, 0.5f, viewLeft, viewLeft + SurvivorGame.WIDTH);
+        spriteBatch.end();
+        return renderer.getDrawn();
+    }
+}
@@ -0,0 +1,64 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.survivor.LifeBar;
+import com.survivor.Player;
+import com.survivor.SlimeWorld;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+// brings up libGDX without a window so the game can load its atlas and draw into a CountingBatch
+public final class Headless {
+    private static TextureAtlas atlas;
+
+    private Headless() {}
+
+    public static synchronized void loadAssets() {
+        if (atlas != null) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // no render loop, the benchmark drives everything itself
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.gl = Gdx.gl20 = Gdx.gl30 = noOpGL();
+
+        atlas = new TextureAtlas("game.atlas");
+        Player.create(atlas);
+        SlimeWorld.create(atlas);
+        LifeBar.create(atlas);
+    }
+
+    // textures still get uploaded on load, so hand out a GL that accepts and ignores every call.
+    // it claims 3.0 and reports every object made and every shader built, so SlimeRenderer and SpriteBatch come up
+    // the way they do in the game and their draws run down to the GL calls
+    private static GL30 noOpGL() {
+        return (GL30) Proxy.newProxyInstance(
+                GL30.class.getClassLoader(),
+                new Class<?>[] { GL30.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    // a zero handle reads as "no buffer" or "no shader", so every object is 1
+                    if ((name.startsWith("glGen") || name.startsWith("glCreate"))
+                            && method.getReturnType() == int.class) return 1;
+                    if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                        int pname = (Integer) args[1];
+                        boolean status = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                        ((IntBuffer) args[2]).put(0, status ? 1 : 0);
+                        return null;
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) return false;
+                    if (type == int.class) return 0;
+                    if (type == float.class) return 0f;
+                    if (type == String.class) return "";
+                    return null;
+                }
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.survivor.LifeBar;
+import com.survivor.Player;
+import com.survivor.SurvivorGame;
+import utils.HudLabel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// ns per frame for the play screen's HUD: the score label and the life bar, drawn the way
+// PlayScreen draws them. run with -prof gc to check a frame allocates nothing, both while the
+// score holds and while it changes every frame and the label has to be laid out again.
+// libGDX's built-in font stands in for the game's, which only changes the glyphs
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HudBenchmark {
+    private BitmapFont font;
+    private HudLabel scoreLabel;
+    private LifeBar lifeBar;
+    private CountingBatch batch;
+    private int score;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Headless.loadAssets();
+        font = new BitmapFont();
+        scoreLabel = new HudLabel(font, "Score: %d");
+        lifeBar = new LifeBar(Player.MAX_HEALTH);
+        lifeBar.setHealth(Player.MAX_HEALTH / 2);
+        batch = new CountingBatch();
+        score = 0;
+    }
+
+    @Benchmark
+    public float steadyScore() {
+        return draw(1234);
+    }
+
+    @Benchmark
+    public float changingScore() {
+        return draw(score++);
+    }
+
+    private float draw(int value) {
+        batch.begin();
+        lifeBar.render(batch, SurvivorGame.WIDTH / 2f);
+        scoreLabel.set(value);
+        // SurvivorGame.drawCentredText, with the camera at the start of the scene
+        GlyphLayout layout = scoreLabel.getLayout();
+        font.draw(batch, layout,
+                SurvivorGame.WIDTH * 0.9f - layout.width / 2,
+                SurvivorGame.HEIGHT * 0.915f + layout.height / 2);
+        batch.end();
+        return batch.checksum;
+    }
+}
@@ -0,0 +1,84 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.survivor.SurvivorGame;
+import utils.Kinematics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// ns per body for one ground motion step: the branching update the player and slimes each
+// used to have, against Kinematics.integrate. both start every pass from the same mixed
+// velocities, so the branches stay as hard to predict as in a crowd walking both ways
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KinematicsBenchmark {
+    private static final int BODIES = 4096;
+    private static final float MAX_X = SurvivorGame.SCENE_WIDTH;
+
+    private float[] startVelocities;
+    private float[] x;
+    private float[] vx;
+    private float[] steps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomXS128 random = new RandomXS128(1);
+        startVelocities = new float[BODIES];
+        x = new float[BODIES];
+        vx = new float[BODIES];
+        steps = new float[BODIES];
+        for (int i = 0; i < BODIES; i++) {
+            // a third standing still, the rest walking or lunging either way
+            int kind = random.nextInt(3);
+            startVelocities[i] = kind == 0 ? 0 : (random.nextBoolean() ? 1 : -1) * (kind == 1 ? 75 : 600);
+            x[i] = random.nextFloat() * MAX_X;
+            steps[i] = SurvivorGame.TICK;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BODIES)
+    public float[] branching() {
+        System.arraycopy(startVelocities, 0, vx, 0, BODIES);
+        for (int i = 0; i < BODIES; i++) {
+            float delta = steps[i];
+            float v = vx[i];
+            x[i] += v * delta;
+            if (v > 0) {
+                v -= SurvivorGame.FRICTION * delta;
+                if (v < 0) v = 0;
+            } else if (v < 0) {
+                v += SurvivorGame.FRICTION * delta;
+                if (v > 0) v = 0;
+            }
+            vx[i] = v;
+            if (x[i] < 0) x[i] = 0;
+            if (x[i] > MAX_X) x[i] = MAX_X;
+        }
+        return x;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BODIES)
+    public float[] integrate() {
+        System.arraycopy(startVelocities, 0, vx, 0, BODIES);
+        Kinematics.integrate(x, vx, steps, 0, BODIES, SurvivorGame.FRICTION, 0, MAX_X);
+        return x;
+    }
+}
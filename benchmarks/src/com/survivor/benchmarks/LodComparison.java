@@ -0,0 +1,88 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.survivor.GameEvents;
+import com.survivor.Player;
+import com.survivor.SlimeWorld;
+import com.survivor.Simulation;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+import utils.EventQueue;
+
+// plays the same scripted round with the slimes' level of detail on and off, and prints how
+// far apart the two runs end up and how long each took. the player can't be hurt, so both runs
+// last the full five minutes, and the waves are dense enough that the loaded segments always
+// hold slimes out in the far tier, walking in towards the player on the coarse steps
+public class LodComparison {
+    // relative to the assets directory the tools run from
+    static final String DENSE_WAVES = "../benchmarks/dense-waves.json";
+    private static final long SEED = 1;
+    private static final int SLIMES = 4096;
+    private static final float WORLD_WIDTH = 40 * SurvivorGame.WIDTH;
+    private static final int MAX_TICKS = 60 * 60 * 5;
+    // how far the level of detail may move the score or the touches from the full update,
+    // as a fraction of the full run's; past it, main exits non-zero
+    static final float TOLERANCE = 0.1f;
+
+    public int ticks;
+    public int score;
+    // ticks a slime was touching the player, each of which would have hurt in a real round
+    public int touches;
+    public int liveSlimes;
+    public int dormantSlimes;
+    public long nanos;
+
+    public static LodComparison run(boolean lod, WaveSchedule waves) {
+        Simulation simulation = new Simulation(SEED, waves, SLIMES, WORLD_WIDTH);
+        Player player = simulation.getPlayer();
+        SlimeWorld slimes = simulation.getSlimes();
+        slimes.setLodEnabled(lod);
+        EventQueue events = simulation.getEvents();
+
+        LodComparison result = new LodComparison();
+        long start = System.nanoTime();
+        while (result.ticks < MAX_TICKS) {
+            // Simulation.tick, but a touch is only counted, so the round never ends early
+            simulation.tickSpawner(SurvivorGame.TICK);
+            simulation.tickSlimes(SurvivorGame.TICK);
+            if (slimes.collidesWithAny(player.getBodyCollider())) result.touches++;
+            player.tick(SurvivorGame.TICK, Simulation.scriptedInput(result.ticks));
+            result.ticks++;
+            while (events.poll()) {
+                if (events.getType() == GameEvents.SLIME_KILLED) result.score++;
+            }
+        }
+        result.nanos = System.nanoTime() - start;
+        result.liveSlimes = slimes.getLiveCount();
+        result.dormantSlimes = slimes.getDormantCount();
+        return result;
+    }
+
+    // args: [waves file, by default the dense one]
+    public static void main(String[] args) {
+        WaveSchedule waves = WaveSchedule.load(new FileHandle(args.length > 0 ? args[0] : DENSE_WAVES));
+        LodComparison full = run(false, waves);
+        LodComparison lod = run(true, waves);
+        print("full", full);
+        print("lod", lod);
+        float scoreDrift = drift(full.score, lod.score);
+        float touchDrift = drift(full.touches, lod.touches);
+        System.out.printf("score %+d (%.1f%%), touches %+d (%.1f%%), live slimes %+d%n",
+                lod.score - full.score, 100 * scoreDrift,
+                lod.touches - full.touches, 100 * touchDrift,
+                lod.liveSlimes - full.liveSlimes);
+        if (Math.abs(scoreDrift) > TOLERANCE || Math.abs(touchDrift) > TOLERANCE) {
+            System.out.printf("level of detail is more than %.0f%% off the full update%n", 100 * TOLERANCE);
+            System.exit(1);
+        }
+    }
+
+    private static float drift(int full, int lod) {
+        return (float) (lod - full) / Math.max(1, full);
+    }
+
+    private static void print(String name, LodComparison run) {
+        System.out.printf("%-4s %6d ticks in %6.1f ms, score %d, touches %d, slimes %d live %d dormant%n",
+                name, run.ticks, run.nanos / 1e6, run.score, run.touches, run.liveSlimes, run.dormantSlimes);
+    }
+}
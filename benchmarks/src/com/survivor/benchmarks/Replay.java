@@ -0,0 +1,64 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.survivor.GameEvents;
+import com.survivor.Player;
+import com.survivor.Simulation;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+import utils.EventQueue;
+import utils.InputReplay;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// plays a recorded session through a headless Simulation; recordings don't carry the waves,
+// so it only plays out as it did against the same waves file
+public class Replay {
+    public int ticks;
+    public int score;
+    public float playerX;
+    public boolean playerDead;
+
+    public static Replay run(byte[] recording, WaveSchedule waves) {
+        InputReplay inputs = new InputReplay(new ByteArrayInputStream(recording));
+        Simulation simulation = new Simulation(inputs.getSeed(), waves);
+        EventQueue events = simulation.getEvents();
+        Replay result = new Replay();
+        while (inputs.hasNext()) {
+            simulation.tick(SurvivorGame.TICK, inputs.next());
+            result.ticks++;
+            while (events.poll()) {
+                if (events.getType() == GameEvents.SLIME_KILLED) result.score++;
+                if (events.getType() == GameEvents.PLAYER_DIED) result.playerDead = true;
+            }
+        }
+        Player player = simulation.getPlayer();
+        result.playerX = player.getCentreX();
+        return result;
+    }
+
+    // replays a recording twice and checks both runs end in the same state;
+    // args: recording [waves file, by default the game's]
+    public static void main(String[] args) throws IOException {
+        byte[] recording = Files.readAllBytes(Paths.get(args[0]));
+        WaveSchedule waves = WaveSchedule.load(new FileHandle(args.length > 1 ? args[1] : WaveSchedule.FILE));
+        long start = System.nanoTime();
+        Replay first = run(recording, waves);
+        long elapsed = System.nanoTime() - start;
+        Replay second = run(recording, waves);
+
+        System.out.printf("%d ticks in %.1f ms (%.0f ns/tick), score %d, player x %.2f%s%n",
+                first.ticks, elapsed / 1e6, (double) elapsed / first.ticks,
+                first.score, first.playerX, first.playerDead ? ", dead" : "");
+        if (first.ticks != second.ticks || first.score != second.score ||
+                Float.compare(first.playerX, second.playerX) != 0 ||
+                first.playerDead != second.playerDead) {
+            System.out.println("NOT DETERMINISTIC: second run ended with score " +
+                    second.score + ", player x " + second.playerX);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.survivor.WaveSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// time to play back a whole recorded session; pass it with -p recording=path/to/file.slmr
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReplayBenchmark {
+    @Param({""})
+    public String recording;
+
+    private byte[] bytes;
+    private WaveSchedule waves;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (recording.isEmpty()) {
+            throw new IllegalArgumentException("Pass a recording with -p recording=<file>");
+        }
+        bytes = Files.readAllBytes(Paths.get(recording));
+        waves = WaveSchedule.load(new FileHandle(WaveSchedule.FILE));
+    }
+
+    @Benchmark
+    public int replay() {
+        return Replay.run(bytes, waves).score;
+    }
+}
@@ -0,0 +1,50 @@
+package com.survivor.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.survivor.GameEvents;
+import com.survivor.Player;
+import com.survivor.Simulation;
+import com.survivor.SlimeWorld;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+import utils.EventQueue;
+
+// plays a waves file against a player who can't be hurt, running the LodComparison script,
+// and prints the population and tick time each second: the load a population curve puts on
+// the simulation. args: waves file [seconds] [world width in screens]
+public class WaveLoad {
+    private static final long SEED = 1;
+    private static final int TICKS_PER_SECOND = Math.round(1 / SurvivorGame.TICK);
+    // pool size when the waves set no cap
+    private static final int MAX_SLIMES = 1 << 17;
+
+    public static void main(String[] args) {
+        WaveSchedule waves = WaveSchedule.load(new FileHandle(args[0]));
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        float worldWidth = args.length > 2 ? Float.parseFloat(args[2]) * SurvivorGame.WIDTH : SurvivorGame.SCENE_WIDTH;
+        // the cap is the most the waves ever let in
+        int capacity = Math.min(waves.getLiveCap(), MAX_SLIMES);
+        Simulation simulation = new Simulation(SEED, waves, capacity, worldWidth);
+        Player player = simulation.getPlayer();
+        SlimeWorld slimes = simulation.getSlimes();
+        EventQueue events = simulation.getEvents();
+
+        System.out.println("second,live,dormant,kills,tick_us");
+        int kills = 0;
+        for (int second = 1; second <= seconds; second++) {
+            long start = System.nanoTime();
+            for (int t = 0; t < TICKS_PER_SECOND; t++) {
+                // Simulation.tick, but the slimes never land a hit, so the round doesn't end
+                simulation.tickSpawner(SurvivorGame.TICK);
+                simulation.tickSlimes(SurvivorGame.TICK);
+                player.tick(SurvivorGame.TICK, Simulation.scriptedInput((second - 1) * TICKS_PER_SECOND + t));
+                while (events.poll()) {
+                    if (events.getType() == GameEvents.SLIME_KILLED) kills++;
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf("%d,%d,%d,%d,%.1f%n", second, slimes.getLiveCount(), slimes.getDormantCount(),
+                    kills, nanos / 1e3 / TICKS_PER_SECOND);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.survivor;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
+import utils.HudLabel;
+
+// times each phase of a frame, shows the averages on screen and appends every frame to a csv
+public class FrameProfiler {
+    public static final int SPAWN = 0;
+    public static final int SLIMES = 1;
+    public static final int PLAYER = 2;
+    public static final int DRAW = 3;
+    public static final int HUD = 4;
+    public static final int FLUSH = 5;
+    private static final int PHASES = 6;
+
+    private static final String CSV_FILE = "profile.csv";
+    private static final String CSV_HEADER = "frame,spawn_ns,slimes_ns,player_ns,draw_ns," +
+            "hud_ns,flush_ns,render_calls,max_sprites,live_slimes,drawn_slimes,culled_slimes," +
+            "alloc_bytes,gcs\n";
+    // once the csv passes this it is moved to profile.csv.old and a new one started
+    private static final long MAX_CSV_BYTES = 8 * 1024 * 1024;
+    private static final float OVERLAY_REFRESH_S = 0.5f;
+    private static final float LINE_HEIGHT = SurvivorGame.FONT_SIZE * 1.4f;
+
+    private final SurvivorGame game;
+    private final long[] phaseStarts;
+    private final long[] phaseNanos;
+    private final long[] windowNanos;
+    private final HudLabel[] overlay;
+    private final StringBuilder csv;
+    private boolean enabled;
+    private long frame;
+    private long lastUsedBytes;
+    private long lastFlushMillis;
+    private float windowTime;
+    private int windowFrames;
+    private long windowAllocBytes;
+    private int windowGcs;
+    private int windowRenderCalls;
+    private int windowMaxSprites;
+    private long windowDrawnSlimes;
+    private long windowCulledSlimes;
+
+    public FrameProfiler(SurvivorGame game) {
+        this.game = game;
+        phaseStarts = new long[PHASES];
+        phaseNanos = new long[PHASES];
+        windowNanos = new long[PHASES];
+        overlay = new HudLabel[] {
+                game.newLabel("FPS %d   SLIMES %d"),
+                game.newLabel("SPAWN %dus   SLIMES %dus   PLAYER %dus"),
+                game.newLabel("DRAW %dus   HUD %dus   FLUSH %dus"),
+                game.newLabel("DRAW CALLS %d   MAX BATCH %d"),
+                game.newLabel("SLIMES DRAWN %d   CULLED %d"),
+                game.newLabel("ALLOC %dKB/s   GC %d"),
+        };
+        csv = new StringBuilder();
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+        if (enabled) {
+            FileHandle file = Gdx.files.local(CSV_FILE);
+            if (!file.exists()) file.writeString(CSV_HEADER, false);
+            lastUsedBytes = usedBytes();
+            lastFlushMillis = TimeUtils.millis();
+        } else {
+            flushCsv();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void begin(int phase) {
+        if (enabled) phaseStarts[phase] = System.nanoTime();
+    }
+
+    // phases that run once per tick add up over the frame
+    public void end(int phase) {
+        if (enabled) phaseNanos[phase] += System.nanoTime() - phaseStarts[phase];
+    }
+
+    // call after batch.end(), once the batch stats for this frame are final;
+    // every live slime was either drawn or culled
+    public void endFrame(float delta, SpriteBatch batch, int drawnSlimes, int culledSlimes) {
+        if (!enabled) return;
+        int liveSlimes = drawnSlimes + culledSlimes;
+
+        // heap growth is what this frame allocated, unless a collection ran in between
+        long usedBytes = usedBytes();
+        long allocBytes = Math.max(0, usedBytes - lastUsedBytes);
+        int gcs = usedBytes < lastUsedBytes ? 1 : 0;
+        lastUsedBytes = usedBytes;
+
+        csv.append(frame++);
+        for (int phase = 0; phase < PHASES; phase++) {
+            csv.append(',').append(phaseNanos[phase]);
+            windowNanos[phase] += phaseNanos[phase];
+            phaseNanos[phase] = 0;
+        }
+        csv.append(',').append(batch.renderCalls)
+                .append(',').append(batch.maxSpritesInBatch)
+                .append(',').append(liveSlimes)
+                .append(',').append(drawnSlimes)
+                .append(',').append(culledSlimes)
+                .append(',').append(allocBytes)
+                .append(',').append(gcs)
+                .append('\n');
+
+        windowTime += delta;
+        windowFrames++;
+        windowAllocBytes += allocBytes;
+        windowGcs += gcs;
+        windowRenderCalls += batch.renderCalls;
+        windowMaxSprites = Math.max(windowMaxSprites, batch.maxSpritesInBatch);
+        batch.maxSpritesInBatch = 0;
+        windowDrawnSlimes += drawnSlimes;
+        windowCulledSlimes += culledSlimes;
+
+        if (windowTime > OVERLAY_REFRESH_S) {
+            overlay[0].set(Math.round(windowFrames / windowTime), liveSlimes);
+            overlay[1].set(averageMicros(SPAWN), averageMicros(SLIMES), averageMicros(PLAYER));
+            overlay[2].set(averageMicros(DRAW), averageMicros(HUD), averageMicros(FLUSH));
+            overlay[3].set(windowRenderCalls / windowFrames, windowMaxSprites);
+            overlay[4].set((int) (windowDrawnSlimes / windowFrames), (int) (windowCulledSlimes / windowFrames));
+            overlay[5].set((int) (windowAllocBytes / 1024 / windowTime), windowGcs);
+            for (int phase = 0; phase < PHASES; phase++) {
+                windowNanos[phase] = 0;
+            }
+            windowTime = 0;
+            windowFrames = 0;
+            windowAllocBytes = 0;
+            windowGcs = 0;
+            windowRenderCalls = 0;
+            windowMaxSprites = 0;
+            windowDrawnSlimes = 0;
+            windowCulledSlimes = 0;
+        }
+
+        if (TimeUtils.timeSinceMillis(lastFlushMillis) > 1000) {
+            flushCsv();
+        }
+    }
+
+    // drawn inside the batch, so its own cost lands in whichever phase is open
+    public void draw() {
+        if (!enabled) return;
+        for (int i = 0; i < overlay.length; i++) {
+            game.drawText(
+                    overlay[i],
+                    SurvivorGame.WIDTH * 0.02f,
+                    SurvivorGame.HEIGHT * 0.85f - i * LINE_HEIGHT
+            );
+        }
+    }
+
+    private int averageMicros(int phase) {
+        return (int) (windowNanos[phase] / windowFrames / 1000);
+    }
+
+    private void flushCsv() {
+        lastFlushMillis = TimeUtils.millis();
+        if (csv.length() == 0) return;
+        FileHandle file = Gdx.files.local(CSV_FILE);
+        if (file.length() > MAX_CSV_BYTES) {
+            file.moveTo(Gdx.files.local(CSV_FILE + ".old"));
+            file.writeString(CSV_HEADER, false);
+        }
+        file.writeString(csv.toString(), true);
+        csv.setLength(0);
+    }
+
+    private static long usedBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,16 @@
+package com.survivor;
+
+// the event types a Simulation pushes during a tick; x is always where it happened
+public final class GameEvents {
+    // value is the slime's id, which stays the same for as long as the slime is in the world
+    public static final int SLIME_SPAWNED = 0;
+    // value is the slime's id, which stays live until its death animation ends
+    public static final int SLIME_KILLED = 1;
+    // value is the health the player has left
+    public static final int PLAYER_HIT = 2;
+    // the death animation has finished; value is unused
+    public static final int PLAYER_DIED = 3;
+
+    private GameEvents() {
+    }
+}
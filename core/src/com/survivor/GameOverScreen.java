@@ -3,44 +3,50 @@ package com.survivor;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import utils.HudLabel;
 
 public class GameOverScreen implements Screen {
     private static int highScore;
     private final SurvivorGame game;
     private final float deadPlayerX;
+    private final float worldWidth;
     private final int score;
+    private final HudLabel titleLabel;
+    private final HudLabel scoreLabel;
+    private final HudLabel promptLabel;
 
-    public GameOverScreen(SurvivorGame game, float deadPlayerX, int score) {
+    public GameOverScreen(SurvivorGame game, float deadPlayerX, float worldWidth, int score) {
         this.game = game;
         this.deadPlayerX = deadPlayerX;
+        this.worldWidth = worldWidth;
         this.score = score;
         highScore = Math.max(score, highScore);
+        titleLabel = game.newLabel("GAME OVER!");
+        scoreLabel = game.newLabel("SCORE: %d   HIGH SCORE: %d");
+        promptLabel = game.newLabel("Press ENTER to play again");
     }
 
     @Override
     public void render(float delta) {
-        game.updateCamera(deadPlayerX);
+        game.updateCamera(deadPlayerX, worldWidth);
 
         game.batch.begin();
 
-        // sky should appear stationary so draw relative to camera
-        game.batch.draw(game.sky, game.camera.position.x - SurvivorGame.WIDTH / 2f, 0);
-        // ground should appear to move under player, covers multiple 'grounds'
-        game.batch.draw(game.ground, 0, 0);
-        game.batch.draw(game.ground, SurvivorGame.WIDTH, 0);
+        game.drawBackground();
 
         game.drawCentredText(
-                "GAME OVER!",
+                titleLabel,
                 SurvivorGame.WIDTH / 2f,
                 SurvivorGame.HEIGHT * 14 / 16f
         );
+        scoreLabel.set(score, highScore);
         game.drawCentredText(
-                String.format("SCORE: %d   HIGH SCORE: %d", score, highScore),
+                scoreLabel,
                 SurvivorGame.WIDTH / 2f,
                 SurvivorGame.HEIGHT * 13 / 16f
         );
         game.drawCentredText(
-                "Press ENTER to play again",
+                promptLabel,
                 SurvivorGame.WIDTH / 2f,
                 SurvivorGame.HEIGHT * 11 / 16f
         );
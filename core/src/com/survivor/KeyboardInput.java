@@ -0,0 +1,25 @@
+package com.survivor;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+// turns the keyboard into one Player input mask per tick
+public class KeyboardInput {
+    private int held;
+    private int pressed;
+
+    // sample once per rendered frame; presses are held until a tick consumes them
+    public void poll() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) pressed |= Player.ATTACK;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) pressed |= Player.JUMP;
+        held = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) held |= Player.RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) held |= Player.LEFT;
+    }
+
+    public int nextTick() {
+        int input = held | pressed;
+        pressed = 0;
+        return input;
+    }
+}
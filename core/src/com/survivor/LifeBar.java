@@ -1,46 +1,49 @@
 package com.survivor;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class LifeBar {
-    private static Texture HEART;
-    private static Texture EMPTY_HEART;
+    private static TextureRegion HEART;
+    private static TextureRegion EMPTY_HEART;
     private static final float FIRST_HEART_X = 80;
     private static final float Y = SurvivorGame.HEIGHT - FIRST_HEART_X;
     private static final float GAP = 50;
     private final int maxHealth;
+    private int health;
 
     public LifeBar(int maxHealth) {
         this.maxHealth = maxHealth;
+        health = maxHealth;
     }
 
-    public static void create() {
-        HEART = new Texture("fullLife.png");
-        EMPTY_HEART = new Texture("noLife.png");
+    public static void create(TextureAtlas atlas) {
+        HEART = atlas.findRegion("fullLife");
+        EMPTY_HEART = atlas.findRegion("noLife");
     }
 
-    public static void dispose() {
-        HEART.dispose();
-        EMPTY_HEART.dispose();
+    // follows the PLAYER_HIT events rather than reading the player
+    public void setHealth(int health) {
+        this.health = health;
     }
 
-    public void render(SpriteBatch batch, int health, float cameraX) {
+    public void render(Batch batch, float cameraX) {
         int i = 0;
         for (;i < health;i++) {
             batch.draw(
                     HEART,
                     cameraX - SurvivorGame.WIDTH / 2f +
-                            FIRST_HEART_X + i * GAP - HEART.getWidth() / 2f,
-                    Y - HEART.getHeight() / 2f
+                            FIRST_HEART_X + i * GAP - HEART.getRegionWidth() / 2f,
+                    Y - HEART.getRegionHeight() / 2f
             );
         }
         for (;i < maxHealth;i++) {
             batch.draw(
                     EMPTY_HEART,
                     cameraX - SurvivorGame.WIDTH / 2f +
-                            FIRST_HEART_X + i * GAP - HEART.getWidth() / 2f,
-                    Y - HEART.getHeight() / 2f
+                            FIRST_HEART_X + i * GAP - HEART.getRegionWidth() / 2f,
+                    Y - HEART.getRegionHeight() / 2f
             );
         }
     }
@@ -0,0 +1,71 @@
+package com.survivor;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+// shown while the AssetManager loads everything else, so it draws with no assets of its own
+public class LoadingScreen implements Screen {
+    private static final float BAR_WIDTH = SurvivorGame.WIDTH / 2f;
+    private static final float BAR_HEIGHT = 24;
+
+    private final SurvivorGame game;
+    private final ShapeRenderer shapes;
+
+    public LoadingScreen(SurvivorGame game) {
+        this.game = game;
+        shapes = new ShapeRenderer();
+    }
+
+    @Override
+    public void render(float delta) {
+        // update() hands the GL thread whatever the loader thread has finished, a bit per frame
+        if (game.assets.update()) {
+            game.finishLoading();
+            game.setScreen(new MenuScreen(game));
+            return;
+        }
+
+        ScreenUtils.clear(0, 0, 0, 1);
+        game.updateCamera(SurvivorGame.WIDTH / 2f);
+        shapes.setProjectionMatrix(game.camera.combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        float x = (SurvivorGame.WIDTH - BAR_WIDTH) / 2f;
+        float y = (SurvivorGame.HEIGHT - BAR_HEIGHT) / 2f;
+        shapes.setColor(0.25f, 0.25f, 0.25f, 1);
+        shapes.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapes.setColor(1, 1, 1, 1);
+        shapes.rect(x, y, BAR_WIDTH * game.assets.getProgress(), BAR_HEIGHT);
+        shapes.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void show() {
+
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+        shapes.dispose();
+    }
+
+    @Override
+    public void dispose() {
+
+    }
+}
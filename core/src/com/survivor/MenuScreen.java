@@ -3,14 +3,22 @@ package com.survivor;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import utils.EventQueue;
+import utils.FixedStep;
+import utils.HudLabel;
 
 public class MenuScreen implements Screen {
     private final SurvivorGame game;
     private final Player player;
+    private final FixedStep timestep;
+    private final HudLabel promptLabel;
 
     public MenuScreen(SurvivorGame game) {
         this.game = game;
-        player = new Player();
+        // the menu player is never hit, so nothing is ever pushed to its queue
+        player = new Player(new EventQueue(1));
+        timestep = new FixedStep(SurvivorGame.TICK, SurvivorGame.MAX_FRAME_TIME);
+        promptLabel = game.newLabel("Press ENTER to play");
     }
 
     @Override
@@ -18,17 +26,20 @@ public class MenuScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        game.updateCamera(player.getCentreX());
+        for (int ticks = timestep.advance(delta); ticks > 0; ticks--) {
+            player.tick(timestep.getStep(), 0);
+        }
+        float alpha = timestep.getAlpha();
+
+        game.updateCamera(player.getRenderCentreX(alpha));
         game.batch.begin();
 
-        game.batch.draw(game.sky, game.camera.position.x - SurvivorGame.WIDTH / 2f, 0);
-        game.batch.draw(game.ground, 0, 0);
-        game.batch.draw(game.ground, SurvivorGame.WIDTH, 0);
+        game.drawBackground();
 
-        player.update(game.batch, delta, game.camera.position.x, true);
+        player.draw(game.batch, alpha);
 
         game.drawCentredText(
-                "Press ENTER to play",
+                promptLabel,
                 SurvivorGame.WIDTH / 2f,
                 SurvivorGame.HEIGHT * 3 / 4f
         );
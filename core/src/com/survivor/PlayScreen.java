@@ -1,39 +1,74 @@
 package com.survivor;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import utils.EventQueue;
+import utils.FixedStep;
+import utils.HudLabel;
+import utils.InputRecorder;
 
 public class PlayScreen implements Screen {
     private final SurvivorGame game;
+    private final Simulation simulation;
     private final Player player;
+    private final SlimeWorld slimes;
+    private final EventQueue events;
+    private final LifeBar lifeBar;
+    private final FixedStep timestep;
+    private final HudLabel scoreLabel;
+    private final KeyboardInput keyboard;
+    private InputRecorder recorder;
+    private int score;
+    private boolean gameOver;
 
     public PlayScreen(SurvivorGame game) {
         this.game = game;
-        player = new Player();
-        Slime.reset(player.getCentreX() + SurvivorGame.WIDTH / 4f *
-                (MathUtils.randomBoolean() ? 1 : -1)
-        );
+        long seed = MathUtils.random.nextLong();
+        simulation = new Simulation(seed, game.waves);
+        player = simulation.getPlayer();
+        slimes = simulation.getSlimes();
+        events = simulation.getEvents();
+        lifeBar = new LifeBar(Player.MAX_HEALTH);
+        timestep = new FixedStep(SurvivorGame.TICK, SurvivorGame.MAX_FRAME_TIME);
+        scoreLabel = game.newLabel("Score: %d");
+        keyboard = new KeyboardInput();
+        if (game.recordInput) {
+            recorder = new InputRecorder(
+                    Gdx.files.local("replays/" + TimeUtils.millis() + ".slmr").write(false, 8192),
+                    seed
+            );
+        }
     }
 
     @Override
     public void render(float delta) {
-        float playerX = player.getCentreX();
-        game.updateCamera(playerX);
+        FrameProfiler profiler = game.profiler;
+        keyboard.poll();
+        for (int ticks = timestep.advance(delta); ticks > 0; ticks--) {
+            tick(timestep.getStep());
+        }
+        float alpha = timestep.getAlpha();
+
+        profiler.begin(FrameProfiler.DRAW);
+        game.updateCamera(player.getRenderCentreX(alpha), simulation.getWorldWidth());
 
         game.batch.begin();
 
-        // sky should appear stationary so draw relative to camera
-        game.batch.draw(game.sky, game.camera.position.x - SurvivorGame.WIDTH / 2f, 0);
-        // ground should appear to move under player, covers multiple 'grounds'
-        game.batch.draw(game.ground, 0, 0);
-        game.batch.draw(game.ground, SurvivorGame.WIDTH, 0);
+        game.drawBackground();
 
-        Slime.updateAll(game.batch, delta, player);
-        player.update(game.batch, delta, game.camera.position.x, false);
+        SlimeRenderer slimeRenderer = game.slimeRenderer;
+        slimeRenderer.draw(game.batch, slimes, alpha, game.getViewLeft(), game.getViewRight());
+        player.draw(game.batch, alpha);
+        if (!player.isDying()) lifeBar.render(game.batch, game.camera.position.x);
+        profiler.end(FrameProfiler.DRAW);
 
+        profiler.begin(FrameProfiler.HUD);
         if (!player.isDying()) {
+            scoreLabel.set(score);
             game.drawCentredText(
-                    String.format("Score: %d", Slime.getDeadSlimeCount()),
+                    scoreLabel,
                     SurvivorGame.WIDTH * 0.9f,
                     SurvivorGame.HEIGHT * 0.915f
             );
@@ -41,13 +76,51 @@ public class PlayScreen implements Screen {
 
         if (SurvivorGame.DEBUG) {
             player.debug(game);
-            Slime.debug(game);
+            slimes.debug(game);
         }
+        profiler.draw();
+        profiler.end(FrameProfiler.HUD);
 
+        profiler.begin(FrameProfiler.FLUSH);
         game.batch.end();
+        profiler.end(FrameProfiler.FLUSH);
+        profiler.endFrame(delta, game.batch, slimeRenderer.getDrawn(), slimeRenderer.getCulled());
 
-        if (player.isDead()) {
-            game.setScreen(new GameOverScreen(game, playerX, Slime.getDeadSlimeCount()));
+        if (gameOver) {
+            game.setScreen(new GameOverScreen(
+                    game, player.getCentreX(), simulation.getWorldWidth(), score
+            ));
+        }
+    }
+
+    private void tick(float delta) {
+        FrameProfiler profiler = game.profiler;
+        profiler.begin(FrameProfiler.SPAWN);
+        simulation.tickSpawner(delta);
+        profiler.end(FrameProfiler.SPAWN);
+
+        profiler.begin(FrameProfiler.SLIMES);
+        simulation.tickSlimes(delta);
+        profiler.end(FrameProfiler.SLIMES);
+
+        int input = keyboard.nextTick();
+        if (recorder != null) recorder.record(input);
+        profiler.begin(FrameProfiler.PLAYER);
+        simulation.tickPlayer(delta, input);
+        profiler.end(FrameProfiler.PLAYER);
+
+        while (events.poll()) {
+            switch (events.getType()) {
+                case GameEvents.SLIME_KILLED:
+                    score++;
+                    break;
+                case GameEvents.PLAYER_HIT:
+                    lifeBar.setHealth(events.getValue());
+                    break;
+                case GameEvents.PLAYER_DIED:
+                    gameOver = true;
+                    break;
+            }
         }
     }
 
@@ -73,7 +146,10 @@ public class PlayScreen implements Screen {
 
     @Override
     public void hide() {
-
+        if (recorder != null) {
+            recorder.close();
+            recorder = null;
+        }
     }
 
     @Override
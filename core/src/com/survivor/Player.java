@@ -1,14 +1,23 @@
 package com.survivor;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import utils.AnimationDef;
+import utils.EventQueue;
+import utils.Kinematics;
 import utils.SpriteSheet;
 
 public class Player {
+    // input bits
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP = 1 << 2;
+    public static final int ATTACK = 1 << 3;
+
     private static final int FRAME_WIDTH = 50;
     private static final int FRAME_HEIGHT = 37;
     private static final int SCALE_FACTOR = 6;
@@ -24,14 +33,45 @@ public class Player {
     private static final float JUMP_VELOCITY = 800;
     private static final float HURT_TIME_S = 1f;
     private static final int HURT_FLICKERS = 3;
-    private static final int MAX_HEALTH = 3;
+    public static final int MAX_HEALTH = 3;
+
+    private enum Anim implements AnimationDef {
+        IDLE(0.8f, 0, 1, 2, 3),
+        RUN(0.8f, 8, 9, 10, 11, 12, 13),
+        FLIP(0.3f, 16, 17, 18, 19, 20, 21, 22),
+        JUMP_UP(0.12f, 77, 78),
+        JUMP_DOWN(0.12f, 79, 80),
+        ATTACK(0.3f, 42, 43, 44, 44, 45, 46, 47),
+        DIE(4f, 62, 63, 64, 65, 66, 67, 68, 66, 67, 68, 68, 68, 68);
+
+        private final float duration;
+        private final int[] frames;
+
+        Anim(float duration, int... frames) {
+            this.duration = duration;
+            this.frames = frames;
+        }
+
+        @Override
+        public float getDuration() {
+            return duration;
+        }
+
+        @Override
+        public int[] getFrames() {
+            return frames;
+        }
+    }
 
     private boolean rightFacing;
     private final Rectangle renderPosition;
     private final Rectangle bodyCollider;
     private final Rectangle swordCollider;
     private final Vector2 velocity;
-    private final LifeBar lifeBar;
+    private float prevX;
+    private float prevY;
+    private final EventQueue events;
+    private final float worldWidth;
     private int health;
     private float directionTimer;
     private float animTimer;
@@ -45,7 +85,9 @@ public class Player {
     private boolean dying;
     private boolean dead;
 
-    public Player(float x) {
+    public Player(float x, EventQueue events, float worldWidth) {
+        this.events = events;
+        this.worldWidth = worldWidth;
         renderPosition = new Rectangle(
                 x,
                 SurvivorGame.GROUND_HEIGHT,
@@ -60,42 +102,51 @@ public class Player {
         );
         swordCollider = new Rectangle(0, 0, SWORD_COLLIDER_WIDTH, HEIGHT);
         velocity = new Vector2();
+        prevX = bodyCollider.x;
+        prevY = bodyCollider.y;
         health = MAX_HEALTH;
-        lifeBar = new LifeBar(MAX_HEALTH);
     }
 
-    public Player() {
-        this((SurvivorGame.SCENE_WIDTH - WIDTH) / 2f);
+    // starts in the middle of the world
+    public Player(EventQueue events, float worldWidth) {
+        this((worldWidth - WIDTH) / 2f, events, worldWidth);
     }
 
-    public void update(SpriteBatch batch, float delta, float cameraX, boolean _static) {
+    public Player(EventQueue events) {
+        this(events, SurvivorGame.SCENE_WIDTH);
+    }
+
+    // input is a mask of the LEFT, RIGHT, JUMP and ATTACK bits for this tick
+    public void tick(float delta, int input) {
         totalTime += delta;
         animTimer += delta;
 
+        prevX = bodyCollider.x;
+        prevY = bodyCollider.y;
         updateMotion(delta);
 
         if (dying) {
-            if (animTimer > spriteSheet.getDuration("die")) {
+            if (!dead && animTimer > Anim.DIE.getDuration()) {
                 dead = true;
-            } else {
-                draw(batch, spriteSheet.getFrame("die", animTimer));
+                events.push(GameEvents.PLAYER_DIED, 0, getCentreX());
             }
             return;
         }
 
-        if (!_static) lifeBar.render(batch, health, cameraX);
-
-        if (Slime.collidesWithAny(bodyCollider)) {
-            takeDamage();
+        if (hurt) {
+            hurtTimer += delta;
+            if (hurtTimer > HURT_TIME_S) {
+                hurt = false;
+            }
         }
 
         // don't begin jump while attacking
-        if (!_static && !attacking) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (!attacking) {
+            if ((input & ATTACK) != 0) {
                 attacking = true;
                 animTimer = 0;
                 directionTimer = 0;
-            } else if (!doubleJumped && Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+            } else if (!doubleJumped && (input & JUMP) != 0) {
                 if (jumping) {
                     doubleJumping = true;
                     doubleJumped = true;
@@ -107,9 +158,10 @@ public class Player {
                 directionTimer = 0;
             }
         }
+
         // don't allow movement while attacking
-        if (!attacking && !_static) {
-            if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+        if (!attacking) {
+            if ((input & RIGHT) != 0) {
                 velocity.x = HORIZONTAL_SPEED;
                 // Update direction
                 if (!rightFacing) {
@@ -118,7 +170,7 @@ public class Player {
                 }
                 // Used to update run animation frame
                 directionTimer += delta;
-            } else if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+            } else if ((input & LEFT) != 0) {
                 velocity.x = -HORIZONTAL_SPEED;
                 // Update direction
                 if (rightFacing) {
@@ -133,45 +185,57 @@ public class Player {
             }
         }
 
-        // decide what to render
-        TextureRegion renderedImage;
+        // finish timed animations
         if (attacking) {
-            renderedImage = spriteSheet.getFrame("attack", animTimer);
-            if (animTimer > spriteSheet.getDuration("attack")) {
+            if (animTimer > Anim.ATTACK.getDuration()) {
                 attacking = false;
             }
+        } else if (doubleJumping) {
+            if (animTimer > Anim.FLIP.getDuration()) {
+                doubleJumping = false;
+                doubleJumped = true;
+            }
+        }
+    }
+
+    public void draw(Batch batch, float alpha) {
+        // render between the last two ticks so motion stays smooth at any frame rate
+        renderPosition.x = MathUtils.lerp(prevX, bodyCollider.x, alpha) - BODY_COLLIDER_OFFSET;
+        renderPosition.y = MathUtils.lerp(prevY, bodyCollider.y, alpha);
+
+        // adventurer frames face right in the sheet
+        boolean mirrored = !rightFacing;
+
+        if (dying) {
+            if (!dead) draw(batch, spriteSheet.getFrame(Anim.DIE, animTimer, mirrored));
+            return;
+        }
+
+        // decide what to render
+        TextureRegion renderedImage;
+        if (attacking) {
+            renderedImage = spriteSheet.getFrame(Anim.ATTACK, animTimer, mirrored);
         } else if (jumping) {
             if (doubleJumping) {
-                renderedImage = spriteSheet.getFrame("flip", animTimer);
-                if (animTimer > spriteSheet.getDuration("flip")) {
-                    doubleJumping = false;
-                    doubleJumped = true;
-                }
+                renderedImage = spriteSheet.getFrame(Anim.FLIP, animTimer, mirrored);
             } else {
                 if (velocity.y > 0) {
-                    renderedImage = spriteSheet.getFrame("jumpUp", animTimer);
+                    renderedImage = spriteSheet.getFrame(Anim.JUMP_UP, animTimer, mirrored);
                 } else {
-                    renderedImage = spriteSheet.getFrame("jumpDown", animTimer);
-                    if (!renderedImage.isFlipX()) {
-                        renderedImage.flip(true, false);
-                    }
+                    renderedImage = spriteSheet.getFrame(Anim.JUMP_DOWN, animTimer, mirrored);
                 }
             }
         } else {
             if (velocity.x > 0) {
-                renderedImage = spriteSheet.getFrame("run", directionTimer);
+                renderedImage = spriteSheet.getFrame(Anim.RUN, directionTimer, mirrored);
             } else if (velocity.x < 0) {
-                renderedImage = spriteSheet.getFrame("run", -directionTimer);
+                renderedImage = spriteSheet.getFrame(Anim.RUN, -directionTimer, mirrored);
             } else {
-                renderedImage = spriteSheet.getFrame("idle", totalTime);
+                renderedImage = spriteSheet.getFrame(Anim.IDLE, totalTime, mirrored);
             }
         }
 
         if (hurt) {
-            hurtTimer += Gdx.graphics.getDeltaTime();
-            if (hurtTimer > HURT_TIME_S) {
-                hurt = false;
-            }
             float hurtProportion = hurtTimer / HURT_TIME_S;
             if ((hurtProportion * HURT_FLICKERS) % 1 > 0.5f) {
                 draw(batch, renderedImage);
@@ -181,14 +245,12 @@ public class Player {
         }
     }
 
-    private void draw(SpriteBatch batch, TextureRegion renderedImage) {
-        if (!rightFacing) renderedImage.flip(true, false);
+    private void draw(Batch batch, TextureRegion renderedImage) {
         batch.draw(
                 renderedImage,
                 renderPosition.x, renderPosition.y,
                 renderPosition.width, renderPosition.height
         );
-        if (!rightFacing) renderedImage.flip(true, false);
     }
 
     private void updateMotion(float delta) {
@@ -199,30 +261,14 @@ public class Player {
             velocity.y -= SurvivorGame.GRAVITY * delta;
         } else if (bodyCollider.y == SurvivorGame.GROUND_HEIGHT) {
             // on the ground: apply friction in opposite direction to motion
-            if (velocity.x > 0) {
-                velocity.x -= SurvivorGame.FRICTION * delta;
-                // check we don't flip the sign
-                if (velocity.x < 0) velocity.x = 0;
-            } else if (velocity.x < 0) {
-                velocity.x += SurvivorGame.FRICTION * delta;
-                // check we don't flip the sign
-                if (velocity.x > 0) velocity.x = 0;
-            }
+            velocity.x = Kinematics.friction(velocity.x, SurvivorGame.FRICTION * delta);
         } else {
             // below the ground: finish jumping
             jumping = doubleJumping = doubleJumped = false;
             bodyCollider.y = SurvivorGame.GROUND_HEIGHT;
             velocity.y = 0;
         }
-        if (bodyCollider.x < 0) {
-            bodyCollider.x = 0;
-        }
-        if (bodyCollider.x > SurvivorGame.SCENE_WIDTH - bodyCollider.width) {
-            bodyCollider.x = SurvivorGame.SCENE_WIDTH - bodyCollider.width;
-        }
-
-        renderPosition.x = bodyCollider.x - BODY_COLLIDER_OFFSET;
-        renderPosition.y = bodyCollider.y;
+        bodyCollider.x = Kinematics.clamp(bodyCollider.x, 0, worldWidth - bodyCollider.width);
 
         if (attacking) {
             if (rightFacing) {
@@ -235,11 +281,12 @@ public class Player {
 
     }
 
-    private void takeDamage() {
-        if (!hurt) {
+    public void takeDamage() {
+        if (!hurt && !dying) {
             health--;
             hurt = true;
             hurtTimer = 0;
+            events.push(GameEvents.PLAYER_HIT, health, getCentreX());
             if (health == 0) {
                 dying = true;
                 animTimer = 0;
@@ -256,38 +303,32 @@ public class Player {
     }
 
     public float getCentreX() {
-        return renderPosition.x + renderPosition.width / 2f;
+        return bodyCollider.x + bodyCollider.width / 2f;
+    }
+
+    public float getRenderCentreX(float alpha) {
+        return MathUtils.lerp(prevX, bodyCollider.x, alpha) + bodyCollider.width / 2f;
+    }
+
+    public Rectangle getBodyCollider() {
+        return bodyCollider;
     }
 
     public Rectangle getSwordCollider() {
-        float attackProportion = animTimer / spriteSheet.getDuration("attack");
+        float attackProportion = animTimer / Anim.ATTACK.getDuration();
         boolean swordOut = 0.25 < attackProportion && attackProportion < 0.5;
         return attacking && swordOut ? swordCollider : null;
     }
 
-    public static void create() {
+    public static void create(TextureAtlas atlas) {
         spriteSheet = new SpriteSheet(
-                "adventurer.png",
+                atlas.findRegion("adventurer"),
                 FRAME_WIDTH, FRAME_HEIGHT,
                 8, 12
         );
-        spriteSheet.loadAnim("idle", 0.8f, 0, 4);
-        spriteSheet.loadAnim("run", 0.8f, 8, 14);
-        spriteSheet.loadAnim("flip", 0.3f, 16, 23);
-        spriteSheet.loadAnim("jumpUp", 0.12f, 77, 79);
-        spriteSheet.loadAnim("jumpDown", 0.12f, 79, 81);
-        spriteSheet.loadAnim(
-                "attack", 0.3f,
-                42, 43, 44, 44, 45, 46, 47
-        );
-        spriteSheet.loadAnim(
-                "die", 4f,
-                62, 63, 64, 65, 66, 67, 68, 66, 67, 68, 68, 68, 68
-        );
-    }
-
-    public static void dispose() {
-        spriteSheet.dispose();
+        spriteSheet.loadAnims(Anim.values());
+        // the falling frames face left in the sheet, unlike the rest
+        spriteSheet.swapFacing(Anim.JUMP_DOWN);
     }
 
     public void debug(SurvivorGame game) {
@@ -0,0 +1,88 @@
+package com.survivor;
+
+import com.badlogic.gdx.math.RandomXS128;
+import utils.EventQueue;
+
+// the game logic of one round, with no rendering or input polling;
+// the same seed, waves and per-tick inputs always play out the same way
+public class Simulation {
+    // more than a round ever reaches; the spawner just waits once it is full
+    public static final int MAX_SLIMES = 1024;
+
+    private final RandomXS128 random;
+    private final EventQueue events;
+    private final float worldWidth;
+    private final Player player;
+    private final SlimeWorld slimes;
+    private final WaveDirector director;
+
+    public Simulation(long seed, WaveSchedule waves) {
+        this(seed, waves, MAX_SLIMES, SurvivorGame.SCENE_WIDTH);
+    }
+
+    // the world can be any width; slimes far from the player cost nothing per tick
+    public Simulation(long seed, WaveSchedule waves, int maxSlimes, float worldWidth) {
+        this.worldWidth = worldWidth;
+        random = new RandomXS128(seed);
+        events = new EventQueue(eventsPerTick(maxSlimes));
+        player = new Player(events, worldWidth);
+        slimes = new SlimeWorld(random, events, worldWidth, maxSlimes);
+        director = new WaveDirector(waves);
+    }
+
+    // the most one tick can push: every slot spawned, every slime killed, and the player both
+    // hit and done dying. the queue is drained every tick, so that is all it ever holds
+    static int eventsPerTick(int maxSlimes) {
+        return 2 * maxSlimes + 2;
+    }
+
+    public void tick(float delta, int input) {
+        tickSpawner(delta);
+        tickSlimes(delta);
+        tickPlayer(delta, input);
+    }
+
+    // the phases of a tick, in order, so callers can time them separately
+    public void tickSpawner(float delta) {
+        director.tick(slimes, player);
+    }
+
+    public void tickSlimes(float delta) {
+        slimes.tick(delta, player);
+    }
+
+    public void tickPlayer(float delta, int input) {
+        if (slimes.collidesWithAny(player.getBodyCollider())) {
+            player.takeDamage();
+        }
+        player.tick(delta, input);
+    }
+
+    // the input the tools play a round with: runs one way for ten seconds then the other,
+    // double jumping over slimes every two seconds and swinging the sword twice once back on
+    // the ground
+    public static int scriptedInput(int tick) {
+        int input = (tick / 600) % 2 == 0 ? Player.RIGHT : Player.LEFT;
+        int phase = tick % 120;
+        if (phase == 0 || phase == 20) input |= Player.JUMP;
+        if (phase == 90 || phase == 105) input |= Player.ATTACK;
+        return input;
+    }
+
+    // whoever runs the ticks drains this once per tick
+    public EventQueue getEvents() {
+        return events;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public SlimeWorld getSlimes() {
+        return slimes;
+    }
+}
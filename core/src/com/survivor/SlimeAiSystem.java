@@ -0,0 +1,41 @@
+package com.survivor;
+
+// walks slimes that aren't busy towards the player
+public final class SlimeAiSystem extends SlimeSystem {
+    SlimeAiSystem(SlimeWorld world) {
+        super(world);
+    }
+
+    @Override
+    void process(int chunk, int first, int end) {
+        SlimeWorld w = world;
+        float playerX = w.tickPlayerX;
+        int now = w.tickCount;
+        for (int i = first; i < end; i++) {
+            if (w.detail[i] == SlimeWorld.ASLEEP) continue;
+            int state = w.flags[i];
+            if ((state & (SlimeWorld.SPAWNING | SlimeWorld.DYING | SlimeWorld.ATTACKING)) != 0) continue;
+
+            float bodyX = w.x[i];
+            float speed = SlimeType.SPEED[w.types[i]];
+            if (playerX > bodyX + SlimeWorld.COLLIDER_WIDTH) {
+                w.velocityX[i] = speed;
+                // Update direction, restarting the move animation
+                if ((state & SlimeWorld.RIGHT_FACING) == 0) {
+                    w.moveTick[i] = now;
+                    w.flags[i] = state | SlimeWorld.RIGHT_FACING;
+                }
+            } else if (playerX < bodyX) {
+                w.velocityX[i] = -speed;
+                // Update direction, restarting the move animation
+                if ((state & SlimeWorld.RIGHT_FACING) != 0) {
+                    w.moveTick[i] = now;
+                    w.flags[i] = state & ~SlimeWorld.RIGHT_FACING;
+                }
+            } else {
+                w.moveTick[i] = now;
+                w.velocityX[i] = 0;
+            }
+        }
+    }
+}
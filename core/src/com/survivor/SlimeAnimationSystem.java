@@ -0,0 +1,47 @@
+package com.survivor;
+
+import utils.TimingWheel;
+
+import java.util.Arrays;
+
+// ends whatever state a slime's animation was playing out: spawning, attacking or dying,
+// freeing the slot once the death has played, and lets cooled-down slimes attack again.
+// driven by the world's timing wheel, so it only ever touches the slimes whose timers are due
+public final class SlimeAnimationSystem {
+    private final SlimeWorld world;
+    private final int[] finishedSlots;
+
+    SlimeAnimationSystem(SlimeWorld world) {
+        this.world = world;
+        finishedSlots = new int[world.getCapacity()];
+    }
+
+    public void update(float deltaTime) {
+        SlimeWorld w = world;
+        TimingWheel timers = w.timers;
+        int now = w.tickCount;
+        int finished = 0;
+        for (int k = 0, fired = timers.expire(now); k < fired; k++) {
+            int timer = timers.getFired(k);
+            int i = w.slots[timer / SlimeWorld.TIMERS];
+            int state = w.flags[i];
+            if (timer % SlimeWorld.TIMERS == SlimeWorld.COOLDOWN_TIMER) {
+                w.flags[i] = state & ~SlimeWorld.COOLING;
+            } else if ((state & SlimeWorld.DYING) != 0) {
+                finishedSlots[finished++] = i;
+            } else if ((state & SlimeWorld.SPAWNING) != 0) {
+                w.flags[i] = state & ~SlimeWorld.SPAWNING;
+            } else {
+                // the walk picks up from the start once the attack is over
+                w.flags[i] = state & ~SlimeWorld.ATTACKING;
+                w.moveTick[i] = now;
+            }
+        }
+
+        // highest slot first, so the slime swapped into a hole has always been dealt with already
+        Arrays.sort(finishedSlots, 0, finished);
+        for (int k = finished - 1; k >= 0; k--) {
+            w.remove(finishedSlots[k]);
+        }
+    }
+}
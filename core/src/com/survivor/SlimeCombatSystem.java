@@ -0,0 +1,124 @@
+package com.survivor;
+
+import com.badlogic.gdx.math.Rectangle;
+
+// lands the player's sword on slimes and starts their attacks on the player
+public final class SlimeCombatSystem extends SlimeSystem {
+    private final int[] killedCounts;
+    private final int[][] killedSlots;
+    // slots that began dying or attacking, whose timers are set once the chunks are done
+    private final int[] startedCounts;
+    private final int[][] startedSlots;
+
+    SlimeCombatSystem(SlimeWorld world) {
+        super(world);
+        int chunks = chunksFor(world.getCapacity());
+        killedCounts = new int[chunks];
+        killedSlots = new int[chunks][CHUNK_SLOTS];
+        startedCounts = new int[chunks];
+        startedSlots = new int[chunks][CHUNK_SLOTS];
+    }
+
+    // the grid and the sword query share lists between slots, so they stay on this thread
+    @Override
+    void begin() {
+        SlimeWorld w = world;
+        w.updateGrid();
+        // one broad-phase query for the sword, instead of every slime testing it
+        Rectangle swordCollider = w.tickSwordCollider;
+        if (swordCollider != null) {
+            int lastCell = w.grid.cellOf(swordCollider.x + swordCollider.width);
+            for (int cell = w.grid.cellOf(swordCollider.x - SlimeWorld.COLLIDER_WIDTH); cell <= lastCell; cell++) {
+                for (int i = w.grid.first(cell); i >= 0; i = w.grid.next(i)) {
+                    if (w.overlaps(i, swordCollider)) w.flags[i] |= SlimeWorld.STRUCK;
+                }
+            }
+        }
+    }
+
+    @Override
+    void process(int chunk, int first, int end) {
+        SlimeWorld w = world;
+        boolean playerDying = w.tickPlayerDying;
+        float playerX = w.tickPlayerX;
+        int now = w.tickCount;
+        int killed = 0;
+        int started = 0;
+        for (int i = first; i < end; i++) {
+            byte level = w.detail[i];
+            if (level == SlimeWorld.ASLEEP) continue;
+            int state = w.flags[i];
+            boolean struck = (state & SlimeWorld.STRUCK) != 0;
+            state &= ~SlimeWorld.STRUCK;
+            w.flags[i] = state;
+            // spawning and dying slimes are left to the animation
+            if ((state & (SlimeWorld.SPAWNING | SlimeWorld.DYING)) != 0) continue;
+
+            // check if Slime has been struck
+            if (struck || playerDying) {
+                w.flags[i] = state | SlimeWorld.DYING;
+                w.animTick[i] = now;
+                startedSlots[chunk][started++] = i;
+                if (playerDying) continue;
+                float recoil = SlimeType.RECOIL_SPEED[w.types[i]];
+                w.velocityX[i] = (state & SlimeWorld.RIGHT_FACING) != 0 ? -recoil : recoil;
+                killedSlots[chunk][killed++] = i;
+                continue;
+            }
+
+            // don't begin attack while attacking or while cooling down; out of view the player
+            // is always beyond reach
+            if (level != SlimeWorld.IN_VIEW || (state & (SlimeWorld.ATTACKING | SlimeWorld.COOLING)) != 0) {
+                continue;
+            }
+            float bodyX = w.x[i];
+            float attackSpeed = SlimeType.ATTACK_SPEED[w.types[i]];
+            // attack to the left
+            if (bodyX - SlimeWorld.WIDTH < playerX && playerX < bodyX) {
+                state = (state & ~SlimeWorld.RIGHT_FACING) | SlimeWorld.ATTACKING;
+                w.velocityX[i] = -attackSpeed;
+            }
+            // attack to the right
+            if (bodyX + 2 * SlimeWorld.WIDTH > playerX && playerX > bodyX + SlimeWorld.WIDTH) {
+                state |= SlimeWorld.RIGHT_FACING | SlimeWorld.ATTACKING;
+                w.velocityX[i] = attackSpeed;
+            }
+            if ((state & SlimeWorld.ATTACKING) != 0) {
+                state |= SlimeWorld.COOLING;
+                w.animTick[i] = now;
+                startedSlots[chunk][started++] = i;
+            }
+            w.flags[i] = state;
+        }
+        killedCounts[chunk] = killed;
+        startedCounts[chunk] = started;
+    }
+
+    // the wheel's lists are shared between slots, so timers are set here, in chunk order
+    @Override
+    void end(int chunks) {
+        SlimeWorld w = world;
+        int dieDue = w.tickCount + SlimeWorld.ticksFor(SlimeWorld.Anim.DIE.getDuration());
+        int attackDue = w.tickCount + SlimeWorld.ticksFor(SlimeWorld.Anim.ATTACK.getDuration());
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] started = startedSlots[chunk];
+            for (int k = 0; k < startedCounts[chunk]; k++) {
+                int i = started[k];
+                int timer = w.ids[i] * SlimeWorld.TIMERS;
+                if ((w.flags[i] & SlimeWorld.DYING) != 0) {
+                    w.timers.schedule(timer + SlimeWorld.ANIM_TIMER, dieDue);
+                } else {
+                    w.timers.schedule(timer + SlimeWorld.ANIM_TIMER, attackDue);
+                    w.timers.schedule(timer + SlimeWorld.COOLDOWN_TIMER, w.tickCount +
+                            SlimeWorld.ticksFor(SlimeType.ATTACK_COOLDOWN[w.types[i]]));
+                }
+            }
+        }
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] killed = killedSlots[chunk];
+            for (int k = 0; k < killedCounts[chunk]; k++) {
+                w.events.push(GameEvents.SLIME_KILLED, w.ids[killed[k]], w.x[killed[k]]);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.survivor;
+
+import utils.Kinematics;
+
+// sorts each slime into a level of detail, then moves it along under friction
+public final class SlimeMotionSystem extends SlimeSystem {
+    // slimes this far beyond the view are only updated every FAR_INTERVAL ticks
+    private static final float NEAR_MARGIN = SurvivorGame.WIDTH / 2f;
+
+    // how far each slot advances this tick: the tick, eight of them, or none while asleep
+    private final float[] steps;
+
+    SlimeMotionSystem(SlimeWorld world) {
+        super(world);
+        steps = new float[world.getCapacity()];
+    }
+
+    @Override
+    void process(int chunk, int first, int end) {
+        SlimeWorld w = world;
+        for (int i = first; i < end; i++) {
+            byte level = detailOf(i);
+            w.detail[i] = level;
+            w.prevX[i] = w.x[i];
+            w.prevY[i] = w.y[i];
+            steps[i] = level == SlimeWorld.ASLEEP ? 0 : deltaOf(i);
+        }
+        // slimes never leave the ground, so this is all there is to their motion
+        Kinematics.integrate(w.x, w.velocityX, steps, first, end, SurvivorGame.FRICTION,
+                0, w.getWorldWidth() - SlimeWorld.COLLIDER_WIDTH);
+    }
+
+    private byte detailOf(int i) {
+        SlimeWorld w = world;
+        float bodyX = w.x[i];
+        if (!w.isLodEnabled() || (bodyX > w.viewFrom && bodyX < w.viewTo)) return SlimeWorld.IN_VIEW;
+        if (bodyX > w.viewFrom - NEAR_MARGIN && bodyX < w.viewTo + NEAR_MARGIN) return SlimeWorld.NEAR;
+        // staggered by id, so each tick wakes an even share of the far slimes
+        return (w.ids[i] + w.tickCount) % SlimeWorld.FAR_INTERVAL == 0 ? SlimeWorld.FAR : SlimeWorld.ASLEEP;
+    }
+}
@@ -0,0 +1,143 @@
+package com.survivor;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+// draws the slimes with instanced calls, uploading four floats a slime instead of a batch quad;
+// the vertex shader builds each quad and picks its frame from the sheet. one call covers up to
+// capacity slots, so a world holding more than that takes a call per capacity slots.
+// without GL 3.0, or if the shader doesn't compile, slimes go through the SpriteBatch as before
+public class SlimeRenderer implements Disposable {
+    private static final int FLOATS_PER_INSTANCE = 4;
+
+    private static final String VERTEX_SHADER = "" +
+            "in vec2 a_corner;\n" +
+            // x, y, sheet frame, mirrored
+            "in vec4 a_instance;\n" +
+            "uniform mat4 u_projTrans;\n" +
+            "uniform vec2 u_size;\n" +
+            // uv of the sheet's top left, then the uv size of one frame
+            "uniform vec4 u_sheet;\n" +
+            "uniform float u_columns;\n" +
+            "out vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    float column = mod(a_instance.z, u_columns);\n" +
+            "    float row = floor(a_instance.z / u_columns);\n" +
+            "    float u = mix(a_corner.x, 1.0 - a_corner.x, a_instance.w);\n" +
+            "    v_texCoords = u_sheet.xy + vec2(column + u, row + 1.0 - a_corner.y) * u_sheet.zw;\n" +
+            "    gl_Position = u_projTrans * vec4(a_instance.xy + a_corner * u_size, 0.0, 1.0);\n" +
+            "}\n";
+
+    private static final String FRAGMENT_SHADER = "" +
+            "in vec2 v_texCoords;\n" +
+            "uniform sampler2D u_texture;\n" +
+            "out vec4 fragColor;\n" +
+            "void main() {\n" +
+            "    fragColor = texture(u_texture, v_texCoords);\n" +
+            "}\n";
+
+    private final int capacity;
+    private ShaderProgram shader;
+    private Mesh mesh;
+    private float[] instances;
+    private int drawn;
+    private int culled;
+
+    public SlimeRenderer(int capacity) {
+        this.capacity = capacity;
+        if (Gdx.gl30 == null) return;
+
+        // desktop runs a 3.2 context, mobile GLES 3.0; highp keeps texels exact on a large atlas
+        String header = Gdx.app.getType() == Application.ApplicationType.Desktop ?
+                "#version 150\n" : "#version 300 es\nprecision highp float;\n";
+        ShaderProgram program = new ShaderProgram(header + VERTEX_SHADER, header + FRAGMENT_SHADER);
+        if (!program.isCompiled()) {
+            Gdx.app.error("SlimeRenderer", "falling back to SpriteBatch: " + program.getLog());
+            program.dispose();
+            return;
+        }
+        shader = program;
+
+        mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Position, 2, "a_corner"));
+        mesh.setVertices(new float[] {0, 0, 1, 0, 1, 1, 0, 1});
+        mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+        mesh.enableInstancedRendering(false, capacity,
+                new VertexAttribute(Usage.Generic, FLOATS_PER_INSTANCE, "a_instance"));
+        instances = new float[capacity * FLOATS_PER_INSTANCE];
+    }
+
+    // call between batch.begin() and batch.end(); only slimes reaching into
+    // [viewLeft, viewRight) are submitted, the rest are counted as culled
+    public void draw(SpriteBatch batch, SlimeWorld slimes, float alpha, float viewLeft, float viewRight) {
+        int live = slimes.getLiveCount();
+        if (mesh == null) {
+            drawn = slimes.draw(batch, alpha, viewLeft, viewRight);
+            culled = live - drawn;
+            return;
+        }
+        drawn = 0;
+        culled = 0;
+        if (live == 0) return;
+
+        // flush what's under the slimes; begin() resets the call count, so carry it over
+        batch.end();
+        int renderCalls = batch.renderCalls;
+
+        TextureRegion sheet = SlimeWorld.getSheetRegion();
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        sheet.getTexture().bind(0);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", batch.getProjectionMatrix());
+        shader.setUniformi("u_texture", 0);
+        shader.setUniformf("u_size", SlimeWorld.WIDTH, SlimeWorld.HEIGHT);
+        shader.setUniformf("u_sheet", sheet.getU(), sheet.getV(),
+                (sheet.getU2() - sheet.getU()) / SlimeWorld.SHEET_COLUMNS,
+                (sheet.getV2() - sheet.getV()) / SlimeWorld.SHEET_ROWS);
+        shader.setUniformf("u_columns", SlimeWorld.SHEET_COLUMNS);
+        // capacity slots at a time, which is never more instances than the buffer holds
+        for (int first = 0; first < live; first += capacity) {
+            int count = slimes.writeInstances(instances, first, Math.min(first + capacity, live),
+                    alpha, viewLeft, viewRight);
+            // with no instance data the mesh would draw its plain quad
+            if (count == 0) continue;
+            mesh.setInstanceData(instances, 0, count * FLOATS_PER_INSTANCE);
+            mesh.render(shader, GL20.GL_TRIANGLES);
+            drawn += count;
+            renderCalls++;
+        }
+        culled = live - drawn;
+
+        batch.begin();
+        batch.renderCalls = renderCalls;
+    }
+
+    // false when slimes go through the SpriteBatch instead
+    public boolean isInstanced() {
+        return mesh != null;
+    }
+
+    // slimes submitted by the last draw
+    public int getDrawn() {
+        return drawn;
+    }
+
+    // slimes the last draw skipped for being off screen
+    public int getCulled() {
+        return culled;
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) mesh.dispose();
+        if (shader != null) shader.dispose();
+    }
+}
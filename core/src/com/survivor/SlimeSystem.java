@@ -0,0 +1,92 @@
+package com.survivor;
+
+import java.util.concurrent.RecursiveAction;
+
+// one pass of the slime update over the packed slots, run by the world in a fixed order with
+// the others; the slots are cut into chunks, which a world with parallel updates on
+// forks across the common pool once there are enough slimes to pay for it. each system can
+// also be updated on its own, to time it
+public abstract class SlimeSystem {
+    // slots per job
+    static final int CHUNK_SLOTS = 1024;
+    // below this the fork and join costs more than the update it spreads out. a round's pool
+    // is Simulation.MAX_SLIMES, a quarter of this, so only the benchmarks' larger worlds fork
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final boolean PARALLEL = Runtime.getRuntime().availableProcessors() > 1;
+
+    final SlimeWorld world;
+    private final ChunkJob[] jobs;
+    private float delta;
+
+    SlimeSystem(SlimeWorld world) {
+        this.world = world;
+        jobs = new ChunkJob[chunksFor(world.getCapacity())];
+        for (int chunk = 0; chunk < jobs.length; chunk++) {
+            jobs[chunk] = new ChunkJob(chunk);
+        }
+    }
+
+    static int chunksFor(int slots) {
+        return (slots + CHUNK_SLOTS - 1) / CHUNK_SLOTS;
+    }
+
+    public void update(float deltaTime) {
+        delta = deltaTime;
+        int count = world.getLiveCount();
+        int chunks = chunksFor(count);
+        begin();
+        if (!PARALLEL || !world.isParallel() || count < PARALLEL_THRESHOLD) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                process(chunk, chunk * CHUNK_SLOTS, Math.min((chunk + 1) * CHUNK_SLOTS, count));
+            }
+        } else {
+            // fork all but the first, which runs on this thread, then join them in order
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                jobs[chunk].reinitialize();
+                jobs[chunk].end = Math.min((chunk + 1) * CHUNK_SLOTS, count);
+            }
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                jobs[chunk].fork();
+            }
+            jobs[0].invoke();
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                jobs[chunk].join();
+            }
+        }
+        end(chunks);
+    }
+
+    // on the world's thread, before any chunk runs
+    void begin() {
+    }
+
+    // a chunk only ever writes to its own slots and to buffers indexed by chunk
+    abstract void process(int chunk, int first, int end);
+
+    // on the world's thread once every chunk is done; merge in chunk order, so the outcome
+    // is the same however the jobs ran
+    void end(int chunks) {
+    }
+
+    // a far slime is only due every FAR_INTERVAL ticks, so it catches up on all of them at once
+    float deltaOf(int i) {
+        return world.detail[i] == SlimeWorld.FAR ? delta * SlimeWorld.FAR_INTERVAL : delta;
+    }
+
+    // reused every tick, so a parallel update doesn't allocate
+    private final class ChunkJob extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int chunk;
+        private int end;
+
+        ChunkJob(int chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            process(chunk, chunk * CHUNK_SLOTS, end);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.survivor;
+
+// what sets one kind of slime apart from another; a new kind is another constant here,
+// and the systems pick its numbers out of the tables below by the slot's type
+public enum SlimeType {
+    GREEN(75, 600, 750, 1);
+
+    static final int COUNT = values().length;
+    // indexed by ordinal, so the hot loops look a parameter up instead of branching on type
+    static final float[] SPEED = new float[COUNT];
+    static final float[] ATTACK_SPEED = new float[COUNT];
+    static final float[] RECOIL_SPEED = new float[COUNT];
+    static final float[] ATTACK_COOLDOWN = new float[COUNT];
+
+    static {
+        for (SlimeType type : values()) {
+            SPEED[type.ordinal()] = type.speed;
+            ATTACK_SPEED[type.ordinal()] = type.attackSpeed;
+            RECOIL_SPEED[type.ordinal()] = type.recoilSpeed;
+            ATTACK_COOLDOWN[type.ordinal()] = type.attackCooldown;
+        }
+    }
+
+    private final float speed;
+    private final float attackSpeed;
+    private final float recoilSpeed;
+    private final float attackCooldown;
+
+    SlimeType(float speed, float attackSpeed, float recoilSpeed, float attackCooldown) {
+        this.speed = speed;
+        this.attackSpeed = attackSpeed;
+        this.recoilSpeed = recoilSpeed;
+        this.attackCooldown = attackCooldown;
+    }
+}
@@ -0,0 +1,510 @@
+package com.survivor;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import utils.AnimationDef;
+import utils.EventQueue;
+import utils.SpatialGrid;
+import utils.SpriteSheet;
+import utils.TimingWheel;
+
+// every slime lives in a slot of these parallel arrays, rather than in its own object;
+// live slimes are packed into slots [0, count), and a dead one is swapped out for the last.
+// each array is one component, and the systems each run a pass over them, in a fixed order.
+// the world is cut into segments; only those near the player hold live slimes, the rest
+// just count theirs until the player comes close enough to load them back in
+public class SlimeWorld {
+    private static final int FRAME_WIDTH = 32;
+    private static final int FRAME_HEIGHT = 25;
+    private static final int SCALE_FACTOR = 6;
+    static final int SHEET_COLUMNS = 8;
+    static final int SHEET_ROWS = 3;
+    static final int WIDTH = FRAME_WIDTH * SCALE_FACTOR;
+    static final int HEIGHT = FRAME_HEIGHT * SCALE_FACTOR;
+    static final float COLLIDER_WIDTH = WIDTH / 1.5f;
+    private static final float COLLIDER_HEIGHT = HEIGHT / 2f;
+    private static final float COLLIDER_OFFSET = (WIDTH - COLLIDER_WIDTH) / 2;
+    // wider than a slime, so a query only ever needs its own cells plus one to the left
+    private static final float GRID_CELL_WIDTH = 2 * WIDTH;
+    public static final float SEGMENT_WIDTH = SurvivorGame.WIDTH;
+    // segments either side of the player's that stay live; one is more than half a screen,
+    // so slimes load and unload out of view
+    private static final int ACTIVE_RADIUS = 1;
+    // how far the player must go past a segment edge before the segment left behind unloads,
+    // so walking back and forth across the edge doesn't reload and reshuffle its slimes
+    private static final float UNLOAD_MARGIN = SEGMENT_WIDTH / 4;
+    static final int FAR_INTERVAL = 8;
+    private static TextureRegion sheetRegion;
+    private static SpriteSheet spriteSheet;
+
+    enum Anim implements AnimationDef {
+        IDLE(0.6f, 0, 1, 2, 3),
+        MOVE(0.6f, 4, 5, 6, 7),
+        DIE(0.4f, 16, 17, 18, 19, 19, 20, 20),
+        ATTACK(0.6f, 8, 9, 10, 10, 10, 11, 11, 12),
+        SPAWN(1f, 20, 20, 19, 19, 18, 17, 16);
+
+        private final float duration;
+        private final int[] frames;
+
+        Anim(float duration, int... frames) {
+            this.duration = duration;
+            this.frames = frames;
+        }
+
+        @Override
+        public float getDuration() {
+            return duration;
+        }
+
+        @Override
+        public int[] getFrames() {
+            return frames;
+        }
+    }
+
+    // state flags, packed into one int per slot
+    static final int RIGHT_FACING = 1;
+    static final int ATTACKING = 1 << 1;
+    static final int SPAWNING = 1 << 2;
+    static final int DYING = 1 << 3;
+    static final int STRUCK = 1 << 4;
+    // can't begin another attack until the cooldown timer fires
+    static final int COOLING = 1 << 5;
+
+    // each slime has two timers on the wheel, named id * TIMERS + the kind
+    static final int TIMERS = 2;
+    // ends whatever SPAWNING, ATTACKING or DYING is playing
+    static final int ANIM_TIMER = 0;
+    static final int COOLDOWN_TIMER = 1;
+    // more ticks than any animation or cooldown runs for
+    private static final int WHEEL_TICKS = 128;
+
+    // level of detail, decided per slot at the start of each tick
+    static final byte IN_VIEW = 0;
+    // out of view: can't reach the player, so no attack checks
+    static final byte NEAR = 1;
+    // far out of view and due this tick, catching up on FAR_INTERVAL ticks at once
+    static final byte FAR = 2;
+    // far out of view and not due: left as it is
+    static final byte ASLEEP = 3;
+
+    private final RandomXS128 random;
+    final EventQueue events;
+    final SpatialGrid grid;
+    private final float worldWidth;
+    private final int capacity;
+    private int count;
+    // slots move when another slime dies, so events name slimes by an id that doesn't
+    final int[] ids;
+    // the other way, from id to slot
+    final int[] slots;
+    private final int[] freeIds;
+    private int freeIdCount;
+
+    // x and y are the bottom left of the body collider
+    final float[] x;
+    final float[] y;
+    final float[] prevX;
+    final float[] prevY;
+    final float[] velocityX;
+    // ticks on which the slime spawned, started its current animation and began walking
+    // its current way, so the idle, spawn/attack/die and move animations can be timed
+    // without counting every tick
+    final int[] bornTick;
+    final int[] animTick;
+    final int[] moveTick;
+    final int[] flags;
+    final byte[] detail;
+    // SlimeType ordinals
+    final byte[] types;
+
+    // slimes in segments outside [firstActive, lastActive] are only counted, by type then segment
+    private final int[][] dormantCounts;
+    private final int segments;
+    private int dormantCount;
+    private int firstActive;
+    private int lastActive;
+
+    private final Rectangle scratch;
+    final TimingWheel timers;
+
+    // run in this order every tick
+    private final SlimeMotionSystem motion;
+    private final SlimeCombatSystem combat;
+    private final SlimeAiSystem ai;
+    private final SlimeAnimationSystem animation;
+    // the tick being run, counting from 1; between ticks, the last one run
+    int tickCount;
+    // the player as it was at the start of the tick, read by every system
+    boolean tickPlayerDying;
+    float tickPlayerX;
+    Rectangle tickSwordCollider;
+    float viewFrom;
+    float viewTo;
+    private boolean lodEnabled = true;
+    private boolean parallel;
+
+    // every array is sized for capacity up front; spawns past it are dropped
+    public SlimeWorld(RandomXS128 random, EventQueue events, float worldWidth, int capacity) {
+        this.random = random;
+        this.events = events;
+        this.worldWidth = worldWidth;
+        this.capacity = capacity;
+        grid = new SpatialGrid(worldWidth, GRID_CELL_WIDTH, capacity);
+        ids = new int[capacity];
+        slots = new int[capacity];
+        freeIds = new int[capacity];
+        // handed out lowest first
+        for (int id = 0; id < capacity; id++) {
+            freeIds[id] = capacity - 1 - id;
+        }
+        freeIdCount = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        velocityX = new float[capacity];
+        bornTick = new int[capacity];
+        animTick = new int[capacity];
+        moveTick = new int[capacity];
+        flags = new int[capacity];
+        detail = new byte[capacity];
+        types = new byte[capacity];
+        scratch = new Rectangle(0, 0, COLLIDER_WIDTH, COLLIDER_HEIGHT);
+        timers = new TimingWheel(WHEEL_TICKS, capacity * TIMERS);
+        segments = (int) Math.ceil(worldWidth / SEGMENT_WIDTH);
+        dormantCounts = new int[SlimeType.COUNT][segments];
+        // everything starts active, so the first stream() unloads whatever is out of range
+        lastActive = segments - 1;
+        motion = new SlimeMotionSystem(this);
+        combat = new SlimeCombatSystem(this);
+        ai = new SlimeAiSystem(this);
+        animation = new SlimeAnimationSystem(this);
+    }
+
+    public static void create(TextureAtlas atlas) {
+        sheetRegion = atlas.findRegion("slime");
+        spriteSheet = new SpriteSheet(
+                sheetRegion,
+                FRAME_WIDTH, FRAME_HEIGHT,
+                SHEET_COLUMNS, SHEET_ROWS
+        );
+        spriteSheet.loadAnims(Anim.values());
+    }
+
+    // false when the pool is full and nothing was spawned, so the caller can try again later
+    public boolean spawn() {
+        return spawn(SlimeType.GREEN);
+    }
+
+    // spawning into a segment out of range only adds to its count, which always succeeds
+    public boolean spawn(SlimeType type) {
+        float x = randomRenderX(0, worldWidth);
+        // by the body, the same as unload goes by
+        int segment = segmentOf(x + COLLIDER_OFFSET);
+        if (segment >= firstActive && segment <= lastActive) {
+            return spawn(type, x);
+        }
+        dormantCounts[type.ordinal()][segment]++;
+        dormantCount++;
+        return true;
+    }
+
+    public boolean spawn(float renderX) {
+        return spawn(SlimeType.GREEN, renderX);
+    }
+
+    public boolean spawn(SlimeType type, float renderX) {
+        if (count == capacity) return false;
+        add(type.ordinal(), renderX);
+        return true;
+    }
+
+    private void add(int type, float renderX) {
+        int i = count++;
+        int id = freeIds[--freeIdCount];
+        ids[i] = id;
+        slots[id] = i;
+        types[i] = (byte) type;
+        x[i] = prevX[i] = renderX + COLLIDER_OFFSET;
+        y[i] = prevY[i] = SurvivorGame.GROUND_HEIGHT;
+        velocityX[i] = 0;
+        bornTick[i] = animTick[i] = moveTick[i] = tickCount;
+        flags[i] = SPAWNING | COOLING | (random.nextBoolean() ? RIGHT_FACING : 0);
+        timers.schedule(id * TIMERS + ANIM_TIMER, tickCount + ticksFor(Anim.SPAWN.getDuration()));
+        timers.schedule(id * TIMERS + COOLDOWN_TIMER, tickCount + ticksFor(SlimeType.ATTACK_COOLDOWN[type]));
+        grid.insert(i, x[i]);
+        events.push(GameEvents.SLIME_SPAWNED, id, x[i]);
+    }
+
+    private float randomRenderX(float from, float to) {
+        return from + COLLIDER_OFFSET + random.nextFloat() * (to - from - COLLIDER_WIDTH - COLLIDER_OFFSET);
+    }
+
+    private int segmentOf(float x) {
+        return MathUtils.clamp((int) (x / SEGMENT_WIDTH), 0, segments - 1);
+    }
+
+    // move the active window to follow the player, counting out the slimes it leaves behind
+    // and spawning back in the ones it reaches; keyed on the player, not the camera, so replays
+    // stream the same way. segments load as soon as they come within ACTIVE_RADIUS, but only
+    // unload once they are out of it even with the player UNLOAD_MARGIN further their way
+    private void stream(float playerX) {
+        int segment = segmentOf(playerX);
+        int keepFirst = Math.max(0, segmentOf(playerX - UNLOAD_MARGIN) - ACTIVE_RADIUS);
+        int keepLast = Math.min(segments - 1, segmentOf(playerX + UNLOAD_MARGIN) + ACTIVE_RADIUS);
+        int first = Math.max(keepFirst, Math.min(firstActive, segment - ACTIVE_RADIUS));
+        int last = Math.min(keepLast, Math.max(lastActive, segment + ACTIVE_RADIUS));
+        if (first == firstActive && last == lastActive) return;
+
+        for (int s = firstActive; s <= lastActive; s++) {
+            if (s < first || s > last) unload(s);
+        }
+        for (int s = first; s <= last; s++) {
+            if (s < firstActive || s > lastActive) load(s);
+        }
+        firstActive = first;
+        lastActive = last;
+    }
+
+    private void unload(int segment) {
+        float from = segment * SEGMENT_WIDTH;
+        float to = from + SEGMENT_WIDTH;
+        // from the top down, so whatever is swapped into a hole has already been looked at
+        for (int i = count - 1; i >= 0; i--) {
+            // dying slimes finish where they are
+            if (x[i] >= from && x[i] < to && (flags[i] & DYING) == 0) {
+                dormantCounts[types[i]][segment]++;
+                dormantCount++;
+                remove(i);
+            }
+        }
+    }
+
+    private void load(int segment) {
+        float from = segment * SEGMENT_WIDTH;
+        float to = Math.min(from + SEGMENT_WIDTH, worldWidth);
+        // any that don't fit in the pool stay counted
+        for (int type = 0; type < SlimeType.COUNT; type++) {
+            while (dormantCounts[type][segment] > 0 && count < capacity) {
+                add(type, randomRenderX(from, to));
+                dormantCounts[type][segment]--;
+                dormantCount--;
+            }
+        }
+    }
+
+    public void tick(float delta, Player player) {
+        // snapshot the player, since the systems must not touch it
+        tickPlayerDying = player.isDying();
+        tickPlayerX = player.getCentreX();
+        tickSwordCollider = player.getSwordCollider();
+        stream(tickPlayerX);
+        // where the camera will be, worked out from the player so replays see the same view;
+        // widened by a slime either side so anything partly on screen counts as in view
+        float viewLeft = MathUtils.clamp(tickPlayerX - SurvivorGame.WIDTH / 2f,
+                0, Math.max(0, worldWidth - SurvivorGame.WIDTH));
+        viewFrom = viewLeft - WIDTH;
+        viewTo = viewLeft + SurvivorGame.WIDTH + WIDTH;
+        tickCount++;
+        motion.update(delta);
+        combat.update(delta);
+        ai.update(delta);
+        animation.update(delta);
+    }
+
+    void updateGrid() {
+        for (int i = 0; i < count; i++) {
+            grid.update(i, x[i]);
+        }
+    }
+
+    // draws the slimes that reach into [viewLeft, viewRight) and returns how many that was
+    public int draw(Batch batch, float alpha, float viewLeft, float viewRight) {
+        int drawn = 0;
+        for (int i = 0; i < count; i++) {
+            // render between the last two ticks so motion stays smooth at any frame rate
+            float renderX = MathUtils.lerp(prevX[i], x[i], alpha) - COLLIDER_OFFSET;
+            if (renderX + WIDTH <= viewLeft || renderX >= viewRight) continue;
+
+            // slime frames face left in the sheet
+            boolean mirrored = (flags[i] & RIGHT_FACING) != 0;
+            Anim anim = animOf(i);
+            TextureRegion renderedImage = spriteSheet.getFrame(anim, animTime(i, anim), mirrored);
+            batch.draw(
+                    renderedImage,
+                    renderX,
+                    MathUtils.lerp(prevY[i], y[i], alpha),
+                    WIDTH, HEIGHT
+            );
+            drawn++;
+        }
+        return drawn;
+    }
+
+    // what SlimeRenderer uploads: x, y, sheet frame and mirrored (0 or 1) for each slime in
+    // slots [first, end) reaching into [viewLeft, viewRight); returns how many were written
+    int writeInstances(float[] out, int first, int end, float alpha, float viewLeft, float viewRight) {
+        int written = 0;
+        int k = 0;
+        for (int i = first; i < end; i++) {
+            float renderX = MathUtils.lerp(prevX[i], x[i], alpha) - COLLIDER_OFFSET;
+            if (renderX + WIDTH <= viewLeft || renderX >= viewRight) continue;
+
+            Anim anim = animOf(i);
+            out[k++] = renderX;
+            out[k++] = MathUtils.lerp(prevY[i], y[i], alpha);
+            out[k++] = spriteSheet.getFrameIndex(anim, animTime(i, anim));
+            out[k++] = (flags[i] & RIGHT_FACING) != 0 ? 1 : 0;
+            written++;
+        }
+        return written;
+    }
+
+    static TextureRegion getSheetRegion() {
+        return sheetRegion;
+    }
+
+    // decide what to render
+    private Anim animOf(int i) {
+        int state = flags[i];
+        if ((state & SPAWNING) != 0) return Anim.SPAWN;
+        if ((state & DYING) != 0) return Anim.DIE;
+        if ((state & ATTACKING) != 0) return Anim.ATTACK;
+        if (velocityX[i] != 0) return Anim.MOVE;
+        return Anim.IDLE;
+    }
+
+    private float animTime(int i, Anim anim) {
+        switch (anim) {
+            case MOVE:
+                return (tickCount - moveTick[i]) * SurvivorGame.TICK;
+            case IDLE:
+                return (tickCount - bornTick[i]) * SurvivorGame.TICK;
+            default:
+                return (tickCount - animTick[i]) * SurvivorGame.TICK;
+        }
+    }
+
+    // the first tick at least this long after the one a timer is set on; the world is
+    // always ticked SurvivorGame.TICK at a time
+    static int ticksFor(float seconds) {
+        return Math.max(1, (int) Math.ceil(seconds / SurvivorGame.TICK));
+    }
+
+    public boolean collidesWithAny(Rectangle rectangle) {
+        // a slime can overlap from the cell to the left of the rectangle
+        int lastCell = grid.cellOf(rectangle.x + rectangle.width);
+        for (int cell = grid.cellOf(rectangle.x - COLLIDER_WIDTH); cell <= lastCell; cell++) {
+            for (int i = grid.first(cell); i >= 0; i = grid.next(i)) {
+                if ((flags[i] & (SPAWNING | DYING)) == 0 && overlaps(i, rectangle)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    boolean overlaps(int i, Rectangle r) {
+        return x[i] < r.x + r.width && x[i] + COLLIDER_WIDTH > r.x &&
+                y[i] < r.y + r.height && y[i] + COLLIDER_HEIGHT > r.y;
+    }
+
+    public void debug(SurvivorGame game) {
+        for (int i = 0; i < count; i++) {
+            scratch.setPosition(x[i], y[i]);
+            game.drawRedRectangle(scratch);
+        }
+    }
+
+    public int getLiveCount() {
+        return count;
+    }
+
+    // slots [0, getLiveCount()) are live; a slot's slime changes whenever one is removed,
+    // so anything kept between ticks should go by id
+    public int getId(int slot) {
+        return ids[slot];
+    }
+
+    // left edge of the body collider
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    // the systems, for timing one pass on its own
+    public SlimeMotionSystem getMotionSystem() {
+        return motion;
+    }
+
+    public SlimeCombatSystem getCombatSystem() {
+        return combat;
+    }
+
+    public SlimeAiSystem getAiSystem() {
+        return ai;
+    }
+
+    // off only to measure how far the level of detail moves a round from the full update
+    public void setLodEnabled(boolean lodEnabled) {
+        this.lodEnabled = lodEnabled;
+    }
+
+    public boolean isLodEnabled() {
+        return lodEnabled;
+    }
+
+    // off in the game, whose pool never reaches SlimeSystem's threshold; the benchmarks turn it
+    // on to time populations that do
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    // slimes waiting in segments away from the player
+    public int getDormantCount() {
+        return dormantCount;
+    }
+
+    // swap the last slime into the hole, so the live slots stay packed
+    void remove(int i) {
+        int id = ids[i];
+        freeIds[freeIdCount++] = id;
+        timers.cancel(id * TIMERS + ANIM_TIMER);
+        timers.cancel(id * TIMERS + COOLDOWN_TIMER);
+        grid.remove(i);
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        velocityX[i] = velocityX[last];
+        bornTick[i] = bornTick[last];
+        animTick[i] = animTick[last];
+        moveTick[i] = moveTick[last];
+        flags[i] = flags[last];
+        detail[i] = detail[last];
+        types[i] = types[last];
+        ids[i] = ids[last];
+        slots[ids[i]] = i;
+        grid.remove(last);
+        grid.insert(i, x[i]);
+    }
+}
@@ -1,14 +1,20 @@
 package com.survivor;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import utils.BackgroundLayer;
 import utils.FontLoader;
+import utils.HudLabel;
 
 public class SurvivorGame extends Game {
 	public static final int WIDTH = 1920;
@@ -16,61 +22,98 @@ public class SurvivorGame extends Game {
 	public static final int GROUND_HEIGHT = 250;
 	public static final int SCENE_WIDTH = 3 * WIDTH / 2;
 	public static final int FONT_SIZE = 34;
+	private static final String ATLAS_FILE = "game.atlas";
+	private static final String FONT_FILE = "Lotuscoder.ttf";
 
 	public static final float GRAVITY = 2000;
 	public static final float FRICTION = 1200;
 
+	// simulation runs at a fixed rate, independent of the render rate
+	public static final float TICK = 1 / 60f;
+	public static final float MAX_FRAME_TIME = 0.25f;
+
 	public static final boolean DEBUG = false;
 
-	public Texture sky;
-	public Texture ground;
+	// each round's seed and inputs are written to replays/ so the run can be replayed headless
+	public final boolean recordInput;
+
+	public AssetManager assets;
+	public TextureAtlas atlas;
+	// back to front
+	private BackgroundLayer[] background;
 	public OrthographicCamera camera;
 	private FitViewport viewport;
 	public SpriteBatch batch;
-	private GlyphLayout glyphLayout;
 	private BitmapFont font;
+	private String fontName;
+	public FrameProfiler profiler;
+	public SlimeRenderer slimeRenderer;
+	public WaveSchedule waves;
 
-	public Texture redRect;
+	public TextureRegion redRect;
 
-	@Override
-	public void create() {
-		Player.create();
-		Slime.create();
-		LifeBar.create();
+	public SurvivorGame(boolean recordInput) {
+		this.recordInput = recordInput;
+	}
 
-		sky = new Texture("sky.png");
-		ground = new Texture("ground.png");
+	public SurvivorGame() {
+		this(false);
+	}
 
+	@Override
+	public void create() {
+		batch = new SpriteBatch();
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, WIDTH, HEIGHT);
 		viewport = new FitViewport(WIDTH, HEIGHT, camera);
 		viewport.apply();
-		batch = new SpriteBatch();
-		glyphLayout = new GlyphLayout();
-		font = FontLoader.load("Lotuscoder.ttf", FONT_SIZE);
 
-		setScreen(new MenuScreen(this));
+		// decoded on the loader thread; LoadingScreen calls finishLoading() once it's done
+		assets = new AssetManager();
+		// every image is packed into one atlas page, see desktop:packTextures
+		assets.load(ATLAS_FILE, TextureAtlas.class);
+		fontName = FontLoader.queue(assets, FONT_FILE, FONT_SIZE);
+
+		setScreen(new LoadingScreen(this));
+	}
 
-		redRect = new Texture("rect.png");
+	public void finishLoading() {
+		atlas = assets.get(ATLAS_FILE, TextureAtlas.class);
+		font = assets.get(fontName, BitmapFont.class);
+		Player.create(atlas);
+		SlimeWorld.create(atlas);
+		LifeBar.create(atlas);
+		redRect = atlas.findRegion("rect");
+
+		// the sky stays put on screen, the ground is fixed to the world and repeats along it
+		background = new BackgroundLayer[] {
+				new BackgroundLayer(atlas.findRegion("sky"), 1),
+				new BackgroundLayer(atlas.findRegion("ground"), 0),
+		};
+		slimeRenderer = new SlimeRenderer(Simulation.MAX_SLIMES);
+		waves = WaveSchedule.load(Gdx.files.internal(WaveSchedule.FILE));
+		profiler = new FrameProfiler(this);
+		if (DEBUG) profiler.toggle();
 	}
 
 	@Override
 	public void render() {
+		if (profiler != null && Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+			profiler.toggle();
+		}
 		super.render();
 	}
 
 	@Override
 	public void dispose() {
-		Player.dispose();
-		Slime.dispose();
-		LifeBar.dispose();
-
+		// hides the current screen first, which is what closes a play screen's input recording
+		super.dispose();
+		// the atlas and font belong to the asset manager
+		assets.dispose();
 		batch.dispose();
-		sky.dispose();
-		ground.dispose();
-		font.dispose();
-
-		redRect.dispose();
+		if (profiler == null) return;
+		if (profiler.isEnabled()) profiler.toggle();
+		slimeRenderer.dispose();
 	}
 
 	@Override
@@ -78,6 +121,14 @@ public class SurvivorGame extends Game {
 		viewport.update(width, height);
 	}
 
+	// draws the layers first thing in the batch, a quad or two each, all from the atlas
+	public void drawBackground() {
+		float viewLeft = getViewLeft();
+		for (BackgroundLayer layer : background) {
+			layer.draw(batch, viewLeft, WIDTH);
+		}
+	}
+
 	public void drawRedRectangle(Rectangle rectangle) {
 		batch.draw(
 				redRect,
@@ -86,8 +137,12 @@ public class SurvivorGame extends Game {
 		);
 	}
 
-	public void drawCentredText(String s, float x, float y) {
-		glyphLayout.setText(font, s);
+	public HudLabel newLabel(String template) {
+		return new HudLabel(font, template);
+	}
+
+	public void drawCentredText(HudLabel label, float x, float y) {
+		GlyphLayout glyphLayout = label.getLayout();
 		font.draw(
 				batch,
 				glyphLayout,
@@ -98,15 +153,38 @@ public class SurvivorGame extends Game {
 		);
 	}
 
+	public void drawText(HudLabel label, float x, float y) {
+		GlyphLayout glyphLayout = label.getLayout();
+		font.draw(
+				batch,
+				glyphLayout,
+				camera.position.x - WIDTH / 2f + x,
+				camera.position.y - HEIGHT / 2f + y
+		);
+	}
+
 	public void updateCamera(float playerX) {
+		updateCamera(playerX, SCENE_WIDTH);
+	}
+
+	public void updateCamera(float playerX, float worldWidth) {
 		float cameraX = playerX;
 		// keep camera from going off-scene
 		cameraX = Math.max(cameraX, WIDTH / 2f);
-		cameraX = Math.min(cameraX, SCENE_WIDTH - WIDTH / 2f);
+		cameraX = Math.min(cameraX, worldWidth - WIDTH / 2f);
 		camera.position.set(cameraX, HEIGHT / 2f, 0);
 		camera.update();
 		batch.setProjectionMatrix(camera.combined);
 	}
 
+	// the world x range updateCamera left on screen
+	public float getViewLeft() {
+		return camera.position.x - WIDTH / 2f;
+	}
+
+	public float getViewRight() {
+		return camera.position.x + WIDTH / 2f;
+	}
+
 
 }
@@ -0,0 +1,36 @@
+package com.survivor;
+
+// spawns a round's slimes on the WaveSchedule's ticks, everything due in a tick at once,
+// holding back whatever would take the population past the schedule's cap, or not fit in the
+// pool, until room opens up
+public class WaveDirector {
+    private final WaveSchedule schedule;
+    private int tick;
+    // the next spawn in the schedule, and where the current pass through it began
+    private int next;
+    private int passStart;
+
+    public WaveDirector(WaveSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public void tick(SlimeWorld slimes, Player player) {
+        int now = tick++;
+        // nobody is left to fight once the player is going down
+        if (player.isDying()) return;
+
+        int size = schedule.size();
+        int cap = schedule.getLiveCap();
+        while (next < size && passStart + schedule.getTick(next) <= now &&
+                slimes.getLiveCount() + slimes.getDormantCount() < cap) {
+            // a full pool keeps the spawn for a later tick, once something has died
+            if (!slimes.spawn(schedule.getType(next))) break;
+            next++;
+            if (next == size && schedule.getLoopTicks() > 0) {
+                next = 0;
+                passStart += schedule.getLoopTicks();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.survivor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.util.Arrays;
+
+// when every slime of a round spawns, worked out from a waves file up front into one list of
+// ticks in order; WaveDirector walks it. e.g.
+//   { "liveCap": 60, "loopAfter": 120,
+//     "waves": [ { "start": 0, "count": 12, "burst": 3, "interval": 4, "type": "GREEN" } ] }
+// spawns twelve slimes from the start, three at a time every four seconds, and the whole
+// timeline begins again every two minutes. only start and count are required; burst defaults
+// to 1, interval to 0, type to GREEN, and without loopAfter the timeline runs once
+public class WaveSchedule {
+    public static final String FILE = "waves.json";
+    private static final SlimeType[] TYPES = SlimeType.values();
+
+    private final int[] ticks;
+    private final byte[] types;
+    private final int liveCap;
+    private final int loopTicks;
+
+    private WaveSchedule(int[] ticks, byte[] types, int liveCap, int loopTicks) {
+        this.ticks = ticks;
+        this.types = types;
+        this.liveCap = liveCap;
+        this.loopTicks = loopTicks;
+    }
+
+    public static WaveSchedule load(FileHandle file) {
+        JsonValue root = new JsonReader().parse(file);
+        JsonValue waves = root.get("waves");
+        int total = 0;
+        for (JsonValue wave = waves.child; wave != null; wave = wave.next) {
+            total += wave.getInt("count");
+        }
+
+        // tick in the high bits and type in the low ones, so one primitive sort orders both
+        long[] spawns = new long[total];
+        int k = 0;
+        for (JsonValue wave = waves.child; wave != null; wave = wave.next) {
+            int start = toTicks(wave.getFloat("start"));
+            int count = wave.getInt("count");
+            int burst = Math.max(1, wave.getInt("burst", 1));
+            int interval = toTicks(wave.getFloat("interval", 0));
+            int type = SlimeType.valueOf(wave.getString("type", SlimeType.GREEN.name())).ordinal();
+            for (int n = 0; n < count; n++) {
+                spawns[k++] = (long) (start + n / burst * interval) << 8 | type;
+            }
+        }
+        Arrays.sort(spawns);
+
+        int[] ticks = new int[total];
+        byte[] types = new byte[total];
+        for (int i = 0; i < total; i++) {
+            ticks[i] = (int) (spawns[i] >>> 8);
+            types[i] = (byte) spawns[i];
+        }
+        int loopTicks = toTicks(root.getFloat("loopAfter", 0));
+        if (loopTicks > 0 && total > 0 && loopTicks <= ticks[total - 1]) {
+            throw new GdxRuntimeException(file + ": loopAfter must come after the last spawn");
+        }
+        return new WaveSchedule(ticks, types, root.getInt("liveCap", Integer.MAX_VALUE), loopTicks);
+    }
+
+    private static int toTicks(float seconds) {
+        return Math.round(seconds / SurvivorGame.TICK);
+    }
+
+    // spawns in the timeline, in tick order
+    public int size() {
+        return ticks.length;
+    }
+
+    public int getTick(int spawn) {
+        return ticks[spawn];
+    }
+
+    public SlimeType getType(int spawn) {
+        return TYPES[types[spawn]];
+    }
+
+    // most slimes, live or dormant, the director lets into the world at once
+    public int getLiveCap() {
+        return liveCap;
+    }
+
+    // 0 when the timeline only runs once
+    public int getLoopTicks() {
+        return loopTicks;
+    }
+}
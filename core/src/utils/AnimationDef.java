@@ -0,0 +1,12 @@
+package utils;
+
+// implemented by an enum listing the animations of one sprite sheet
+public interface AnimationDef {
+    int ordinal();
+
+    String name();
+
+    float getDuration();
+
+    int[] getFrames();
+}
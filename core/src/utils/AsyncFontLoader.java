@@ -0,0 +1,68 @@
+package utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+
+// FreeType font loader that rasterises on the asset manager's loader thread, into its own
+// pixmap packer the way FontBaker does, and leaves the GL thread only the page uploads.
+// libGDX's FreetypeFontLoader does all of its work in loadSync
+public class AsyncFontLoader extends AsynchronousAssetLoader<BitmapFont, AsyncFontLoader.Parameter> {
+    private static final int PAGE_SIZE = 512;
+
+    public static class Parameter extends AssetLoaderParameters<BitmapFont> {
+        public String fontFileName;
+        public int size;
+    }
+
+    // handed from loadAsync to loadSync; the manager runs one load per loader at a time
+    private FreeTypeBitmapFontData data;
+    private PixmapPacker packer;
+
+    public AsyncFontLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameter parameter) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(resolve(parameter.fontFileName));
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+        FreeTypeFontParameter fontParameter = new FreeTypeFontParameter();
+        fontParameter.size = parameter.size;
+        fontParameter.packer = packer;
+        data = generator.generateData(fontParameter);
+        generator.dispose();
+    }
+
+    @Override
+    public BitmapFont loadSync(AssetManager manager, String fileName, FileHandle file, Parameter parameter) {
+        Array<TextureRegion> regions = new Array<>();
+        packer.updateTextureRegions(regions, Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        BitmapFont font = new BitmapFont(data, regions, true);
+        // the page textures now own the pixmaps, and the font owns the textures
+        font.setOwnsTexture(true);
+        packer.dispose();
+        packer = null;
+        data = null;
+        return font;
+    }
+
+    // AssetLoader declares the raw type, and an override has to return the same
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameter parameter) {
+        return null;
+    }
+}
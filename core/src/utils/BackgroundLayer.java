@@ -0,0 +1,28 @@
+package utils;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// a tile repeated sideways forever, with parallax 0 fixed to the world and 1 staying put on
+// screen. drawn straight from the atlas with the batch's usual blending, so the background
+// shares the sprites' texture and state and never breaks the batch
+public class BackgroundLayer {
+    private final TextureRegion tile;
+    private final float parallax;
+
+    public BackgroundLayer(TextureRegion tile, float parallax) {
+        this.tile = tile;
+        this.parallax = parallax;
+    }
+
+    // only the repeats that reach into the view, usually one or two
+    public void draw(Batch batch, float viewLeft, float viewWidth) {
+        float width = tile.getRegionWidth();
+        float offset = viewLeft * parallax;
+        // the first repeat that reaches into the view
+        float x = offset + (float) Math.floor((viewLeft - offset) / width) * width;
+        for (; x < viewLeft + viewWidth; x += width) {
+            batch.draw(tile, x, 0);
+        }
+    }
+}
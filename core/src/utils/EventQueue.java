@@ -0,0 +1,72 @@
+package utils;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// ring buffer of (type, value, x) events, stored in parallel arrays so pushing never allocates.
+// it never grows: the owner sizes it for the most one tick can push, so running out of room
+// means that bound is wrong, and push says so rather than hiding it
+public class EventQueue {
+    private final int[] types;
+    private final int[] values;
+    private final float[] xs;
+    private final int mask;
+    private int head;
+    private int size;
+
+    // the event last taken by poll()
+    private int type;
+    private int value;
+    private float x;
+
+    public EventQueue(int capacity) {
+        capacity = MathUtils.nextPowerOfTwo(capacity);
+        types = new int[capacity];
+        values = new int[capacity];
+        xs = new float[capacity];
+        mask = capacity - 1;
+    }
+
+    public void push(int type, int value, float x) {
+        if (size == types.length) {
+            throw new GdxRuntimeException("More than " + types.length + " events in one tick");
+        }
+        int tail = (head + size) & mask;
+        types[tail] = type;
+        values[tail] = value;
+        xs[tail] = x;
+        size++;
+    }
+
+    // drain with: while (queue.poll()) { switch (queue.getType()) ... }
+    public boolean poll() {
+        if (size == 0) return false;
+        type = types[head];
+        value = values[head];
+        x = xs[head];
+        head = (head + 1) & mask;
+        size--;
+        return true;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,30 @@
+package utils;
+
+public class FixedStep {
+    private final float step;
+    private final float maxFrameTime;
+    private float accumulator;
+
+    public FixedStep(float step, float maxFrameTime) {
+        this.step = step;
+        this.maxFrameTime = maxFrameTime;
+    }
+
+    // bank the frame time and return how many whole steps are now due
+    public int advance(float delta) {
+        // clamp long frames so a stall doesn't turn into a burst of ticks
+        accumulator += Math.min(delta, maxFrameTime);
+        int steps = (int) (accumulator / step);
+        accumulator -= steps * step;
+        return steps;
+    }
+
+    // how far we are between the last step and the next, for interpolation
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    public float getStep() {
+        return step;
+    }
+}
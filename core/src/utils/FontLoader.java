@@ -1,24 +1,32 @@
 package utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 
 public class FontLoader {
-    private final BitmapFont font;
-
-    public FontLoader(String fontFile, int size) {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(
-                Gdx.files.internal(fontFile)
-        );
-        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
-        parameter.size = size;
-        font = generator.generateFont(parameter);
-        generator.dispose();
+    // where a font baked ahead of time is looked for, e.g. Lotuscoder-34.fnt
+    public static String bakedFile(String fontFile, int size) {
+        return fontFile.substring(0, fontFile.lastIndexOf('.')) + "-" + size + ".fnt";
     }
 
-    public static BitmapFont load(String fontFile, int size) {
-        return new FontLoader(fontFile, size).font;
+    // queues the font on the manager and returns the name to get it by once loaded:
+    // the baked .fnt if there is one, otherwise FreeType renders it on the loader thread and
+    // only the pages are uploaded on the GL thread
+    public static String queue(AssetManager assets, String fontFile, int size) {
+        String baked = bakedFile(fontFile, size);
+        if (Gdx.files.internal(baked).exists()) {
+            assets.load(baked, BitmapFont.class);
+            return baked;
+        }
+
+        assets.setLoader(BitmapFont.class, ".ttf", new AsyncFontLoader(assets.getFileHandleResolver()));
+        AsyncFontLoader.Parameter parameter = new AsyncFontLoader.Parameter();
+        parameter.fontFileName = fontFile;
+        parameter.size = size;
+        // any name will do, as long as it ends in .ttf to pick the FreeType loader
+        String name = size + "-" + fontFile;
+        assets.load(name, BitmapFont.class, parameter);
+        return name;
     }
 }
@@ -0,0 +1,73 @@
+package utils;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Array;
+
+// text with %d slots for ints; the glyphs are only laid out again when a value changes
+public class HudLabel {
+    private static final String SLOT = "%d";
+
+    private final BitmapFont font;
+    private final String[] literals;
+    private final int[] values;
+    private final StringBuilder text;
+    private final GlyphLayout layout;
+    private boolean dirty;
+
+    public HudLabel(BitmapFont font, String template) {
+        this.font = font;
+        Array<String> pieces = new Array<>(String.class);
+        int start = 0;
+        for (int slot = template.indexOf(SLOT); slot >= 0; slot = template.indexOf(SLOT, start)) {
+            pieces.add(template.substring(start, slot));
+            start = slot + SLOT.length();
+        }
+        pieces.add(template.substring(start));
+        literals = pieces.toArray();
+        values = new int[literals.length - 1];
+        text = new StringBuilder(template.length() + 11 * values.length);
+        layout = new GlyphLayout();
+        dirty = true;
+    }
+
+    public void set(int value) {
+        assert values.length == 1;
+        if (values[0] != value) {
+            values[0] = value;
+            dirty = true;
+        }
+    }
+
+    public void set(int first, int second) {
+        assert values.length == 2;
+        if (values[0] != first || values[1] != second) {
+            values[0] = first;
+            values[1] = second;
+            dirty = true;
+        }
+    }
+
+    public void set(int first, int second, int third) {
+        assert values.length == 3;
+        if (values[0] != first || values[1] != second || values[2] != third) {
+            values[0] = first;
+            values[1] = second;
+            values[2] = third;
+            dirty = true;
+        }
+    }
+
+    public GlyphLayout getLayout() {
+        if (dirty) {
+            text.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                text.append(literals[i]).append(values[i]);
+            }
+            text.append(literals[values.length]);
+            layout.setText(font, text);
+            dirty = false;
+        }
+        return layout;
+    }
+}
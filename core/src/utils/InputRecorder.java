@@ -0,0 +1,60 @@
+package utils;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// writes a session's seed, then its per-tick input masks as (mask, run length) pairs
+public class InputRecorder {
+    static final int MAGIC = 0x534c4d52;
+    // bumped whenever the simulation changes so that older recordings would play out differently
+    static final int VERSION = 2;
+
+    private final DataOutputStream out;
+    private int mask;
+    private int run;
+
+    public InputRecorder(OutputStream stream, long seed) {
+        out = new DataOutputStream(stream);
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write input recording", e);
+        }
+    }
+
+    public void record(int input) {
+        if (run > 0 && input != mask) writeRun();
+        mask = input;
+        run++;
+    }
+
+    public void close() {
+        if (run > 0) writeRun();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write input recording", e);
+        }
+    }
+
+    private void writeRun() {
+        try {
+            out.writeByte(mask);
+            // varint, most runs fit in a byte or two
+            int value = run;
+            while ((value & ~0x7f) != 0) {
+                out.writeByte((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write input recording", e);
+        }
+        run = 0;
+    }
+}
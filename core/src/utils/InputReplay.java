@@ -0,0 +1,67 @@
+package utils;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// reads back a file written by InputRecorder, one input mask per tick
+public class InputReplay {
+    private final DataInputStream in;
+    private final long seed;
+    private int mask;
+    private int remaining;
+
+    public InputReplay(InputStream stream) {
+        in = new DataInputStream(stream);
+        try {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new GdxRuntimeException("Not an input recording");
+            }
+            int version = in.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new GdxRuntimeException("Unsupported input recording version " + version);
+            }
+            seed = in.readLong();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read input recording", e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean hasNext() {
+        if (remaining > 0) return true;
+        try {
+            int next = in.read();
+            if (next < 0) return false;
+            mask = next;
+            int shift = 0, b;
+            do {
+                b = in.readUnsignedByte();
+                remaining |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read input recording", e);
+        }
+        return remaining > 0;
+    }
+
+    public int next() {
+        if (!hasNext()) throw new GdxRuntimeException("Input recording has ended");
+        remaining--;
+        return mask;
+    }
+
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read input recording", e);
+        }
+    }
+}
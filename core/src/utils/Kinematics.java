@@ -0,0 +1,33 @@
+package utils;
+
+// motion along the ground, shared by every body that walks on it: move by the velocity,
+// slow the velocity by friction without letting it change sign, and keep within the world.
+// no branches on the velocity's sign, so a pass over many bodies is one flat loop that
+// HotSpot can unroll and vectorise
+public final class Kinematics {
+    private Kinematics() {
+    }
+
+    // vx moved towards zero by decel, stopping at zero rather than passing it: moving left,
+    // vx + decel is capped at zero; moving right, that cap is below vx - decel, which wins.
+    // min and max vectorise where Math.copySign doesn't
+    public static float friction(float vx, float decel) {
+        return Math.max(vx - decel, Math.min(vx + decel, 0));
+    }
+
+    public static float clamp(float x, float min, float max) {
+        return Math.min(Math.max(x, min), max);
+    }
+
+    // advances bodies [from, to) by their own steps, which may differ; a step of 0 leaves
+    // a body where it is
+    public static void integrate(float[] x, float[] vx, float[] steps, int from, int to,
+                                 float friction, float minX, float maxX) {
+        for (int i = from; i < to; i++) {
+            float v = vx[i];
+            float step = steps[i];
+            x[i] = clamp(x[i] + v * step, minX, maxX);
+            vx[i] = friction(v, friction * step);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package utils;
+
+import java.util.Arrays;
+
+// 1-D uniform grid over the x axis; each id sits in the cell holding its left edge
+public class SpatialGrid {
+    private static final int NONE = -1;
+
+    private final float cellWidth;
+    private final int[] heads;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] cells;
+
+    public SpatialGrid(float width, float cellWidth, int capacity) {
+        this.cellWidth = cellWidth;
+        heads = new int[(int) Math.ceil(width / cellWidth)];
+        Arrays.fill(heads, NONE);
+        next = new int[capacity];
+        prev = new int[capacity];
+        cells = new int[capacity];
+        Arrays.fill(cells, NONE);
+    }
+
+    public void insert(int id, float x) {
+        link(id, cellOf(x));
+    }
+
+    // only touches the lists when the id has crossed into a different cell
+    public void update(int id, float x) {
+        int cell = cellOf(x);
+        if (cell != cells[id]) {
+            unlink(id);
+            link(id, cell);
+        }
+    }
+
+    public void remove(int id) {
+        unlink(id);
+        cells[id] = NONE;
+    }
+
+    public int cellOf(float x) {
+        int cell = (int) (x / cellWidth);
+        return Math.max(0, Math.min(cell, heads.length - 1));
+    }
+
+    // iterate a cell with: for (int id = first(cell); id >= 0; id = next(id))
+    public int first(int cell) {
+        return heads[cell];
+    }
+
+    public int next(int id) {
+        return next[id];
+    }
+
+    private void link(int id, int cell) {
+        int head = heads[cell];
+        next[id] = head;
+        prev[id] = NONE;
+        if (head != NONE) prev[head] = id;
+        heads[cell] = id;
+        cells[id] = cell;
+    }
+
+    private void unlink(int id) {
+        int cell = cells[id];
+        if (cell == NONE) return;
+        if (prev[id] != NONE) {
+            next[prev[id]] = next[id];
+        } else {
+            heads[cell] = next[id];
+        }
+        if (next[id] != NONE) prev[next[id]] = prev[id];
+    }
+}
@@ -9,14 +9,39 @@ import java.util.HashMap;
 public class SpriteSheet {
     private final Texture sheet;
     private final TextureRegion[][] sheetArray;
+    private final TextureRegion[][] mirroredSheetArray;
     private final int widthInFrames;
     private final int heightInFrames;
     private final HashMap<String, Animation<TextureRegion>> animDict;
+    private Animation<TextureRegion>[] anims;
+    private Animation<TextureRegion>[] mirroredAnims;
 
     public SpriteSheet(String sheetLocation, int tileWidth, int tileHeight,
                        int widthInFrames, int heightInFrames) {
-        this.sheet = new Texture(sheetLocation);
-        sheetArray = TextureRegion.split(sheet, tileWidth, tileHeight);
+        this(new Texture(sheetLocation), new TextureRegion(), tileWidth, tileHeight,
+                widthInFrames, heightInFrames);
+    }
+
+    // a sheet packed into an atlas; the atlas owns the texture
+    public SpriteSheet(TextureRegion sheetRegion, int tileWidth, int tileHeight,
+                       int widthInFrames, int heightInFrames) {
+        this(null, sheetRegion, tileWidth, tileHeight, widthInFrames, heightInFrames);
+    }
+
+    private SpriteSheet(Texture sheet, TextureRegion sheetRegion, int tileWidth, int tileHeight,
+                        int widthInFrames, int heightInFrames) {
+        this.sheet = sheet;
+        if (sheet != null) sheetRegion.setRegion(sheet);
+        sheetArray = sheetRegion.split(tileWidth, tileHeight);
+        // mirror every frame once up front so drawing never has to mutate a region
+        mirroredSheetArray = new TextureRegion[sheetArray.length][];
+        for (int row = 0; row < sheetArray.length; row++) {
+            mirroredSheetArray[row] = new TextureRegion[sheetArray[row].length];
+            for (int col = 0; col < sheetArray[row].length; col++) {
+                mirroredSheetArray[row][col] = new TextureRegion(sheetArray[row][col]);
+                mirroredSheetArray[row][col].flip(true, false);
+            }
+        }
         this.widthInFrames = widthInFrames;
         this.heightInFrames = heightInFrames;
         animDict = new HashMap<>();
@@ -35,16 +60,70 @@ public class SpriteSheet {
     }
 
     public void loadAnim(String name, float duration, int... frameIndices) {
+        animDict.put(name, buildAnim(sheetArray, duration, frameIndices));
+    }
+
+    // register every animation of an enum once, so lookups are a plain array read
+    public <E extends Enum<E> & AnimationDef> void loadAnims(E[] defs) {
+        anims = newAnimArray(defs.length);
+        mirroredAnims = newAnimArray(defs.length);
+        for (E def : defs) {
+            anims[def.ordinal()] = buildAnim(sheetArray, def.getDuration(), def.getFrames());
+            mirroredAnims[def.ordinal()] = buildAnim(
+                    mirroredSheetArray, def.getDuration(), def.getFrames()
+            );
+            animDict.put(stringName(def), anims[def.ordinal()]);
+        }
+    }
+
+    // the name the string lookups have always used for an animation: JUMP_UP is "jumpUp"
+    private static String stringName(AnimationDef def) {
+        String[] words = def.name().toLowerCase().split("_");
+        StringBuilder name = new StringBuilder(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            name.append(Character.toUpperCase(words[i].charAt(0))).append(words[i], 1, words[i].length());
+        }
+        return name.toString();
+    }
+
+    // Java can't create an array of a generic type, only of its wildcard
+    @SuppressWarnings("unchecked")
+    private static Animation<TextureRegion>[] newAnimArray(int length) {
+        return (Animation<TextureRegion>[]) new Animation<?>[length];
+    }
+
+    // for animations drawn facing the other way to the rest of the sheet
+    public void swapFacing(AnimationDef anim) {
+        Animation<TextureRegion> mirrored = mirroredAnims[anim.ordinal()];
+        mirroredAnims[anim.ordinal()] = anims[anim.ordinal()];
+        anims[anim.ordinal()] = mirrored;
+    }
+
+    private Animation<TextureRegion> buildAnim(TextureRegion[][] source, float duration,
+                                               int[] frameIndices) {
         int framesAdded = 0, row, col;
         TextureRegion[] frames = new TextureRegion[frameIndices.length];
         for (int frameIndex : frameIndices) {
             row = frameIndex / widthInFrames;
             col = frameIndex % widthInFrames;
-            frames[framesAdded++] = sheetArray[row][col];
+            frames[framesAdded++] = source[row][col];
         }
-        animDict.put(name, new Animation<>(duration / framesAdded, frames));
+        return new Animation<>(duration / framesAdded, frames);
+    }
+
+    public TextureRegion getFrame(AnimationDef anim, float time, boolean mirrored) {
+        return (mirrored ? mirroredAnims : anims)[anim.ordinal()].getKeyFrame(time, true);
+    }
+
+    // the sheet index of the frame showing at this time, for renderers that sample the sheet
+    // themselves; loops the same way getFrame does
+    public int getFrameIndex(AnimationDef anim, float time) {
+        int[] frames = anim.getFrames();
+        float frameDuration = anims[anim.ordinal()].getFrameDuration();
+        return frames[(int) (time / frameDuration) % frames.length];
     }
 
+    // string lookups are kept for sheets that don't define an enum
     public TextureRegion getFrame(String animName, float time) {
         return animDict.get(animName).getKeyFrame(time, true);
     }
@@ -54,6 +133,6 @@ public class SpriteSheet {
     }
 
     public void dispose() {
-        sheet.dispose();
+        if (sheet != null) sheet.dispose();
     }
 }
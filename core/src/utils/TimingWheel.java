@@ -0,0 +1,83 @@
+package utils;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.Arrays;
+
+// hashed timing wheel: timers named by small ints, each due on a tick, kept in a ring of
+// per-tick buckets so a tick only looks at the timers that hash to it. a timer further out
+// than the ring just waits in its bucket until its own tick comes round.
+// every list lives in int arrays, so scheduling and expiry never allocate
+public class TimingWheel {
+    private static final int NONE = -1;
+
+    private final int[] heads;
+    private final int mask;
+    private final int[] due;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] fired;
+    private int firedCount;
+
+    // buckets should cover the usual delay, in ticks; timers are 0 to capacity - 1
+    public TimingWheel(int buckets, int capacity) {
+        buckets = MathUtils.nextPowerOfTwo(buckets);
+        heads = new int[buckets];
+        Arrays.fill(heads, NONE);
+        mask = buckets - 1;
+        due = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        // prev doubles as the pending mark: NONE - 1 while not scheduled
+        Arrays.fill(prev, NONE - 1);
+        fired = new int[capacity];
+    }
+
+    // replaces the timer's old due tick if it had one
+    public void schedule(int timer, int tick) {
+        cancel(timer);
+        int bucket = tick & mask;
+        due[timer] = tick;
+        prev[timer] = NONE;
+        next[timer] = heads[bucket];
+        if (heads[bucket] != NONE) prev[heads[bucket]] = timer;
+        heads[bucket] = timer;
+    }
+
+    public void cancel(int timer) {
+        if (!isPending(timer)) return;
+        int before = prev[timer];
+        int after = next[timer];
+        if (before == NONE) {
+            heads[due[timer] & mask] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) prev[after] = before;
+        prev[timer] = NONE - 1;
+    }
+
+    public boolean isPending(int timer) {
+        return prev[timer] != NONE - 1;
+    }
+
+    // takes every timer due on this tick off the wheel and returns how many there were,
+    // to read with getFired(); call once per tick, in tick order
+    public int expire(int tick) {
+        firedCount = 0;
+        int timer = heads[tick & mask];
+        while (timer != NONE) {
+            int after = next[timer];
+            if (due[timer] == tick) {
+                cancel(timer);
+                fired[firedCount++] = timer;
+            }
+            timer = after;
+        }
+        return firedCount;
+    }
+
+    public int getFired(int k) {
+        return fired[k];
+    }
+}
@@ -0,0 +1,54 @@
+package com.survivor.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.SharedLibraryLoader;
+import utils.FontLoader;
+
+import java.io.File;
+
+// renders each font at each size with FreeType and writes it next to the .ttf as a .fnt
+// and its png pages, which FontLoader then picks up instead of running FreeType at startup.
+// usage: FontBaker <assets dir> <font.ttf>:<size> ...
+public class FontBaker {
+    private static final int PAGE_SIZE = 512;
+
+    public static void main(String[] args) {
+        GdxNativesLoader.load();
+        new SharedLibraryLoader().load("gdx-freetype");
+
+        File assetsDir = new File(args[0]);
+        for (int i = 1; i < args.length; i++) {
+            String[] spec = args[i].split(":");
+            bake(new FileHandle(new File(assetsDir, spec[0])), Integer.parseInt(spec[1]));
+        }
+    }
+
+    private static void bake(FileHandle fontFile, int size) {
+        String fntName = FontLoader.bakedFile(fontFile.name(), size);
+        String name = fntName.substring(0, fntName.length() - ".fnt".length());
+
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        // our own packer, so the glyphs stay in pixmaps and nothing needs a GL context
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.packer = packer;
+        FreeTypeBitmapFontData data = generator.generateData(parameter);
+
+        String[] pageRefs = BitmapFontWriter.writePixmaps(packer.getPages(), fontFile.parent(), name);
+        BitmapFontWriter.writeFont(
+                data, pageRefs, fontFile.parent().child(fntName),
+                new BitmapFontWriter.FontInfo(name, size), PAGE_SIZE, PAGE_SIZE
+        );
+        packer.dispose();
+        generator.dispose();
+        System.out.println("baked " + fntName + " in " + pageRefs.length + " page(s)");
+    }
+}
@@ -2,6 +2,10 @@ package com.survivor;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.SharedLibraryLoader;
+
+import java.util.Arrays;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
@@ -11,6 +15,23 @@ public class DesktopLauncher {
 		config.setWindowedMode(SurvivorGame.WIDTH, SurvivorGame.HEIGHT);
 		config.setResizable(true);
 		config.setTitle("survivor");
-		new Lwjgl3Application(new SurvivorGame(), config);
+		boolean recordInput = Arrays.asList(arg).contains("--record");
+		// GL 3 lets the slimes be drawn instanced; macOS only offers it as a core profile,
+		// which the stock SpriteBatch shaders don't compile under
+		if (!SharedLibraryLoader.isMac) {
+			config.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL30, 3, 2);
+			SurvivorGame game = new SurvivorGame(recordInput);
+			try {
+				new Lwjgl3Application(game, config);
+				return;
+			} catch (GdxRuntimeException e) {
+				// once the game is up, a failure is the game's own and not the context's
+				if (game.batch != null) throw e;
+				// the driver can't make a GL 3.2 context, so the slimes go through the SpriteBatch
+				System.err.println("GL 3.2 unavailable, falling back to GL 2: " + e.getMessage());
+				config.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL20, 2, 0);
+			}
+		}
+		new Lwjgl3Application(new SurvivorGame(recordInput), config);
 	}
 }
@@ -0,0 +1,196 @@
+package com.survivor.server;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.LockSupport;
+
+// runs every connected client's round on the server, so the clients only send input and draw
+// what comes back. one thread does all the socket work; another keeps the 60Hz tick and hands
+// each tick's sessions to a shared pool, and every few seconds prints how much of the tick
+// budget they took
+public class GameServer {
+    private static final long TICK_NANOS = Math.round(SurvivorGame.TICK * 1e9);
+    private static final long REPORT_NANOS = 5_000_000_000L;
+
+    private final WaveSchedule waves;
+    private final ForkJoinPool pool;
+    private final int threads;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final List<Session> sessions = new ArrayList<>();
+    // what the tick thread ticks; replaced whole by the selector thread when sessions come or go
+    private volatile Session[] active = new Session[0];
+    private final TickAll tickAll = new TickAll();
+
+    public GameServer(int port, int threads, WaveSchedule waves) throws IOException {
+        this.waves = waves;
+        this.threads = threads;
+        pool = new ForkJoinPool(threads);
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Protocol.DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        if (threads <= 0) threads = Runtime.getRuntime().availableProcessors();
+        WaveSchedule waves = WaveSchedule.load(new FileHandle(WaveSchedule.FILE));
+
+        GameServer gameServer = new GameServer(port, threads, waves);
+        Thread ticker = new Thread(gameServer::tickLoop, "tick");
+        ticker.setDaemon(true);
+        ticker.start();
+        System.out.println("listening on " + gameServer.server.getLocalAddress() + ", " + threads + " threads");
+        gameServer.selectLoop();
+    }
+
+    private void selectLoop() throws IOException {
+        while (true) {
+            // the tick thread wakes this after every tick, so new state goes out straight away
+            selector.select();
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                if (!key.isValid()) continue;
+                if (key.isAcceptable()) {
+                    accept();
+                    continue;
+                }
+                Session session = (Session) key.attachment();
+                try {
+                    if (key.isReadable() && !session.read()) close(session);
+                } catch (IOException e) {
+                    close(session);
+                }
+            }
+            flushAll();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) return;
+        channel.configureBlocking(false);
+        // frames are small and due every tick; waiting to batch them only adds latency
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Session session = new Session(channel, waves);
+        channel.register(selector, SelectionKey.OP_READ, session);
+        sessions.add(session);
+        active = sessions.toArray(new Session[0]);
+    }
+
+    private void flushAll() {
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            Session session = sessions.get(i);
+            SelectionKey key = session.channel.keyFor(selector);
+            try {
+                if (session.hasOverflowed()) {
+                    close(session);
+                    continue;
+                }
+                // only ask to hear about writability while something is stuck behind a full socket
+                int ops = session.flush() ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+                if (key.interestOps() != ops) key.interestOps(ops);
+            } catch (IOException e) {
+                close(session);
+            }
+        }
+    }
+
+    private void close(Session session) {
+        if (!sessions.remove(session)) return;
+        active = sessions.toArray(new Session[0]);
+        try {
+            session.channel.close();
+        } catch (IOException ignored) {
+            // it's going either way
+        }
+    }
+
+    private void tickLoop() {
+        long next = System.nanoTime();
+        long reportAt = next + REPORT_NANOS;
+        long ticks = 0;
+        long busyNanos = 0;
+        long maxNanos = 0;
+        long sessionTicks = 0;
+        int overruns = 0;
+        while (true) {
+            long start = System.nanoTime();
+            Session[] tickSessions = active;
+            tickAll.sessions = tickSessions;
+            pool.invoke(tickAll);
+            tickAll.reinitialize();
+            selector.wakeup();
+            long took = System.nanoTime() - start;
+
+            ticks++;
+            busyNanos += took;
+            maxNanos = Math.max(maxNanos, took);
+            sessionTicks += tickSessions.length;
+            if (took > TICK_NANOS) overruns++;
+
+            if (start >= reportAt) {
+                System.out.printf("%d sessions: tick %.2f ms mean, %.2f ms max, %.1f us per session, " +
+                                "%.0f%% of the tick on %d threads, %d overruns%n",
+                        tickSessions.length, busyNanos / 1e6 / ticks, maxNanos / 1e6,
+                        sessionTicks == 0 ? 0 : busyNanos / 1e3 / sessionTicks,
+                        100.0 * busyNanos / (ticks * TICK_NANOS), threads, overruns);
+                reportAt = start + REPORT_NANOS;
+                ticks = busyNanos = maxNanos = sessionTicks = 0;
+                overruns = 0;
+            }
+
+            // a late tick runs straight away rather than skipping, so every round sees every tick
+            next += TICK_NANOS;
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    // forks every session's tick but the first, runs that one here, then joins the rest in
+    // order, the same split SlimeSystem makes across slot chunks
+    private static final class TickAll extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        Session[] sessions;
+
+        @Override
+        protected void compute() {
+            Session[] tickSessions = sessions;
+            for (int i = 1; i < tickSessions.length; i++) {
+                Session.TickJob job = tickSessions[i].job;
+                job.reinitialize();
+                job.fork();
+            }
+            if (tickSessions.length > 0) {
+                tickSessions[0].job.reinitialize();
+                tickSessions[0].job.invoke();
+            }
+            for (int i = 1; i < tickSessions.length; i++) {
+                tickSessions[i].job.join();
+            }
+        }
+    }
+}
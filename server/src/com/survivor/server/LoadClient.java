@@ -0,0 +1,190 @@
+package com.survivor.server;
+
+import com.survivor.GameEvents;
+import com.survivor.Simulation;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+// plays many scripted rounds against a GameServer at once, from one thread, and prints each
+// second how many states came back and how long an input took to show up in one
+public class LoadClient {
+    private static final long SEND_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+    private static final long REPORT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Selector selector;
+    private final Client[] clients;
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+    private long states;
+    private long stateBytes;
+    private int restarts;
+
+    public LoadClient(int sessions, int port) throws IOException {
+        selector = Selector.open();
+        clients = new Client[sessions];
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        for (int i = 0; i < sessions; i++) {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            clients[i] = new Client(channel, i);
+            channel.register(selector, SelectionKey.OP_READ, clients[i]);
+            clients[i].hello();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : Protocol.DEFAULT_PORT;
+        new LoadClient(sessions, port).run(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private void run(long nanos) throws IOException {
+        long start = System.nanoTime();
+        long nextSend = start;
+        long reportAt = start + REPORT_NANOS;
+        int inputTick = 0;
+        while (true) {
+            long now = System.nanoTime();
+            if (now - start >= nanos) break;
+            if (now >= nextSend) {
+                int input = Simulation.scriptedInput(inputTick++);
+                for (Client client : clients) {
+                    client.input(input, now);
+                }
+                nextSend += SEND_NANOS;
+            }
+            if (now >= reportAt) {
+                report();
+                reportAt += REPORT_NANOS;
+            }
+
+            long wait = Math.min(nextSend, reportAt) - System.nanoTime();
+            if (wait > 0) selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+            else selector.selectNow();
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                Client client = (Client) key.attachment();
+                if (key.isReadable()) client.read();
+                if (key.isValid() && key.isWritable()) client.flush();
+            }
+        }
+        for (Client client : clients) {
+            client.channel.close();
+        }
+        selector.close();
+    }
+
+    private void report() {
+        Arrays.sort(latencies, 0, latencyCount);
+        System.out.printf("%d sessions: %d states/s, %.1f KB/s, %d restarts, " +
+                        "input to state %.2f ms p50, %.2f ms p99, %.2f ms max%n",
+                clients.length, states, stateBytes / 1024.0, restarts,
+                percentile(0.5), percentile(0.99), percentile(1));
+        latencyCount = 0;
+        states = 0;
+        stateBytes = 0;
+        restarts = 0;
+    }
+
+    private double percentile(double p) {
+        if (latencyCount == 0) return 0;
+        return latencies[(int) Math.ceil(p * latencyCount) - (p > 0 ? 1 : 0)] / 1e6;
+    }
+
+    private void recordLatency(long nanos) {
+        if (latencyCount == latencies.length) latencies = Arrays.copyOf(latencies, latencyCount * 2);
+        latencies[latencyCount++] = nanos;
+    }
+
+    private final class Client {
+        final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+        private final ByteBuffer out = ByteBuffer.allocate(1024);
+        private long seed;
+        // stamp of the last state seen, so each input's latency is only counted once
+        private long lastStamp;
+
+        Client(SocketChannel channel, long seed) {
+            this.channel = channel;
+            this.seed = seed;
+        }
+
+        void hello() throws IOException {
+            out.putInt(1 + 8).put(Protocol.HELLO).putLong(seed);
+            flush();
+        }
+
+        void input(int bits, long stamp) throws IOException {
+            // a client that can't keep up skips inputs rather than queueing them up
+            if (out.remaining() < Protocol.LENGTH_BYTES + 1 + 1 + 8) return;
+            out.putInt(1 + 1 + 8).put(Protocol.INPUT).put((byte) bits).putLong(stamp);
+            flush();
+        }
+
+        void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            SelectionKey key = channel.keyFor(selector);
+            int ops = out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            if (key.interestOps() != ops) key.interestOps(ops);
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) throw new IOException("server closed session " + seed);
+            in.flip();
+            while (in.remaining() >= Protocol.LENGTH_BYTES) {
+                int length = in.getInt(in.position());
+                if (length < 1 || length > in.capacity() - Protocol.LENGTH_BYTES) {
+                    throw new IOException("bad frame length " + length);
+                }
+                if (in.remaining() < Protocol.LENGTH_BYTES + length) break;
+                in.position(in.position() + Protocol.LENGTH_BYTES);
+                int end = in.position() + length;
+                if (in.get() == Protocol.STATE) state(length);
+                in.position(end);
+            }
+            in.compact();
+        }
+
+        private void state(int length) throws IOException {
+            long now = System.nanoTime();
+            states++;
+            stateBytes += Protocol.LENGTH_BYTES + length;
+            in.getInt();
+            long stamp = in.getLong();
+            if (stamp != 0 && stamp != lastStamp) {
+                recordLatency(now - stamp);
+                lastStamp = stamp;
+            }
+            in.getFloat();
+            in.getFloat();
+            boolean died = false;
+            for (int n = in.getShort(); n > 0; n--) {
+                if (in.get() == GameEvents.PLAYER_DIED) died = true;
+                in.getInt();
+                in.getFloat();
+            }
+            // the moved and removed slimes are only skipped over; a real client would draw them
+            if (died) {
+                seed += clients.length;
+                restarts++;
+                hello();
+            }
+        }
+    }
+}
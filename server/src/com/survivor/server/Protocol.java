@@ -0,0 +1,30 @@
+package com.survivor.server;
+
+// every message either way is a frame: int length, then a type byte and its fields, all
+// big-endian; the length counts the type byte and the fields
+public final class Protocol {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int LENGTH_BYTES = 4;
+
+    // client to server: long seed. starts a new round, throwing away any that was running
+    public static final byte HELLO = 1;
+    // client to server: byte input (Player.LEFT | RIGHT | JUMP | ATTACK), long stamp.
+    // LEFT and RIGHT are held until the next input; JUMP and ATTACK are presses, applied on
+    // the next tick only. the stamp comes back in the first state that used it
+    public static final byte INPUT = 2;
+    // server to client, once per tick: only what changed since the last state
+    //   int tick, long stamp of the input this tick ran with,
+    //   float player x (body centre), float player y (body bottom),
+    //   short event count, then each: byte type (GameEvents), int value, float x
+    //   short moved slime count, then each: short id, short x in whole pixels
+    //   short removed slime count, then each: short id
+    public static final byte STATE = 3;
+
+    public static final int STATE_FIXED_BYTES = 1 + 4 + 8 + 4 + 4 + 2 + 2 + 2;
+    public static final int EVENT_BYTES = 1 + 4 + 4;
+    public static final int MOVED_BYTES = 2 + 2;
+    public static final int REMOVED_BYTES = 2;
+
+    private Protocol() {
+    }
+}
@@ -0,0 +1,200 @@
+package com.survivor.server;
+
+import com.survivor.Player;
+import com.survivor.Simulation;
+import com.survivor.SlimeWorld;
+import com.survivor.SurvivorGame;
+import com.survivor.WaveSchedule;
+import utils.EventQueue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// one client's round. the selector thread reads its frames and flushes its output; a pool
+// thread runs its tick, which is the only thing that touches the simulation
+final class Session {
+    private static final int NOT_SENT = -1;
+    private static final int HELD = Player.LEFT | Player.RIGHT;
+    // a client this far behind on reading is dropped rather than buffered for
+    private static final int MAX_PENDING_BYTES = 256 * 1024;
+
+    final SocketChannel channel;
+    final TickJob job;
+    private final WaveSchedule waves;
+    private final ByteBuffer in;
+    // frames waiting for the socket; the tick thread appends, the selector thread drains
+    private final ByteBuffer out;
+    private ByteBuffer frame;
+    private boolean overflowed;
+
+    // set by the selector thread, picked up by the next tick
+    private volatile long seed;
+    private volatile boolean restart;
+    private volatile int held;
+    // jumps and attacks are presses, like KeyboardInput's: each counts for one tick only
+    private final AtomicInteger pressed = new AtomicInteger();
+    private volatile long stamp;
+
+    // the tick thread's own
+    private Simulation simulation;
+    private int tick;
+    // what the client was last told, by slime id: x in whole pixels, and the tick it was seen
+    private final int[] sentX;
+    private final int[] seenTick;
+
+    Session(SocketChannel channel, WaveSchedule waves) {
+        this.channel = channel;
+        this.waves = waves;
+        job = new TickJob();
+        in = ByteBuffer.allocate(64);
+        out = ByteBuffer.allocate(MAX_PENDING_BYTES);
+        frame = ByteBuffer.allocate(16 * 1024);
+        sentX = new int[Simulation.MAX_SLIMES];
+        seenTick = new int[Simulation.MAX_SLIMES];
+    }
+
+    // selector thread: false once the client has hung up or sent something malformed
+    boolean read() throws IOException {
+        if (channel.read(in) < 0) return false;
+        in.flip();
+        while (in.remaining() >= Protocol.LENGTH_BYTES) {
+            int length = in.getInt(in.position());
+            if (length < 1 || length > in.capacity() - Protocol.LENGTH_BYTES) return false;
+            if (in.remaining() < Protocol.LENGTH_BYTES + length) break;
+            in.position(in.position() + Protocol.LENGTH_BYTES);
+            int end = in.position() + length;
+            byte type = in.get();
+            if (type == Protocol.HELLO && length == 1 + 8) {
+                seed = in.getLong();
+                restart = true;
+            } else if (type == Protocol.INPUT && length == 1 + 1 + 8) {
+                int bits = in.get();
+                long inputStamp = in.getLong();
+                held = bits & HELD;
+                pressed.accumulateAndGet(bits & ~HELD, (a, b) -> a | b);
+                // the stamp goes last, so a tick that sees it sees the input too
+                stamp = inputStamp;
+            } else {
+                return false;
+            }
+            in.position(end);
+        }
+        in.compact();
+        return true;
+    }
+
+    // selector thread: writes what it can, and says whether anything is still waiting
+    synchronized boolean flush() throws IOException {
+        if (out.position() == 0) return false;
+        out.flip();
+        channel.write(out);
+        out.compact();
+        return out.position() > 0;
+    }
+
+    synchronized boolean hasOverflowed() {
+        return overflowed;
+    }
+
+    // pool thread
+    private void tick() {
+        if (restart) {
+            restart = false;
+            simulation = new Simulation(seed, waves);
+            tick = 0;
+            Arrays.fill(sentX, NOT_SENT);
+        }
+        if (simulation == null) return;
+
+        // read the stamp first, so it is never newer than the input the tick runs with
+        long inputStamp = stamp;
+        int bits = held | pressed.getAndSet(0);
+        simulation.tick(SurvivorGame.TICK, bits);
+        tick++;
+        writeState(inputStamp);
+
+        synchronized (this) {
+            if (out.remaining() < frame.remaining()) {
+                overflowed = true;
+            } else {
+                out.put(frame);
+            }
+        }
+    }
+
+    private void writeState(long inputStamp) {
+        Player player = simulation.getPlayer();
+        SlimeWorld slimes = simulation.getSlimes();
+        EventQueue events = simulation.getEvents();
+        int live = slimes.getLiveCount();
+        int most = Protocol.LENGTH_BYTES + Protocol.STATE_FIXED_BYTES +
+                events.size() * Protocol.EVENT_BYTES +
+                live * Protocol.MOVED_BYTES + sentX.length * Protocol.REMOVED_BYTES;
+        if (frame.capacity() < most) frame = ByteBuffer.allocate(most);
+
+        ByteBuffer f = frame;
+        f.clear();
+        f.position(Protocol.LENGTH_BYTES);
+        f.put(Protocol.STATE);
+        f.putInt(tick);
+        f.putLong(inputStamp);
+        f.putFloat(player.getCentreX());
+        f.putFloat(player.getBodyCollider().y);
+
+        int countAt = f.position();
+        f.putShort((short) 0);
+        int count = 0;
+        while (events.poll()) {
+            f.put((byte) events.getType());
+            f.putInt(events.getValue());
+            f.putFloat(events.getX());
+            count++;
+        }
+        f.putShort(countAt, (short) count);
+
+        countAt = f.position();
+        f.putShort((short) 0);
+        count = 0;
+        for (int i = 0; i < live; i++) {
+            int id = slimes.getId(i);
+            int x = Math.round(slimes.getX(i));
+            seenTick[id] = tick;
+            if (sentX[id] != x) {
+                sentX[id] = x;
+                f.putShort((short) id);
+                f.putShort((short) x);
+                count++;
+            }
+        }
+        f.putShort(countAt, (short) count);
+
+        countAt = f.position();
+        f.putShort((short) 0);
+        count = 0;
+        for (int id = 0; id < sentX.length; id++) {
+            if (sentX[id] != NOT_SENT && seenTick[id] != tick) {
+                sentX[id] = NOT_SENT;
+                f.putShort((short) id);
+                count++;
+            }
+        }
+        f.putShort(countAt, (short) count);
+
+        f.putInt(0, f.position() - Protocol.LENGTH_BYTES);
+        f.flip();
+    }
+
+    // reused every tick, so ticking the sessions doesn't allocate
+    final class TickJob extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            tick();
+        }
+    }
+}